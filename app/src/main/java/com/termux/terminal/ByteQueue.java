@@ -1,54 +1,73 @@
 package com.termux.terminal;
 
-/** A circular byte buffer allowing one producer and one consumer thread. */
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A circular byte buffer allowing one producer and one consumer thread.
+ * <p>
+ * The producer only advances the count of bytes written and the consumer the count of bytes read, so neither takes a
+ * lock, and a thread only parks when the queue stays empty for reading or full for writing until the other side moves.
+ */
 final class ByteQueue {
 
+    /**
+     * Indices into {@link #mIndices} of the total number of bytes read and written, 128 bytes apart and away from the
+     * ends of the array so that the two threads do not share a cache line.
+     */
+    private static final int READ_INDEX = 15, WRITE_INDEX = 31;
+    /**
+     * How many times to let the other thread run before parking on an empty or full queue, which is often enough for it
+     * to catch up when data is streaming and much cheaper than parking and unparking.
+     */
+    private static final int YIELDS_BEFORE_PARKING = 4;
+
     private final byte[] mBuffer;
-    private int mHead;
-    private int mStoredBytes;
-    private boolean mOpen = true;
+    private final AtomicLongArray mIndices = new AtomicLongArray(WRITE_INDEX + 16);
+    private volatile boolean mOpen = true;
+    /** The consumer or producer thread while it is parked waiting for the other, or null. */
+    private volatile Thread mWaitingReader, mWaitingWriter;
 
     public ByteQueue(int size) {
         mBuffer = new byte[size];
     }
 
-    public synchronized void close() {
+    public void close() {
         mOpen = false;
-        notify();
+        LockSupport.unpark(mWaitingReader);
+        LockSupport.unpark(mWaitingWriter);
     }
 
-    public synchronized int read(byte[] buffer, boolean block) {
-        while (mStoredBytes == 0 && mOpen) {
-            if (block) {
-                try {
-                    wait();
-                } catch (InterruptedException e) {
-                    // Ignore.
-                }
-            } else {
-                return 0;
-            }
+    /** The number of bytes which may be read without blocking, or 0 once closed. */
+    public int available() {
+        if (!mOpen) return 0;
+        return (int) (mIndices.get(WRITE_INDEX) - mIndices.get(READ_INDEX));
+    }
+
+    public int read(byte[] buffer, boolean block) {
+        final long readCount = mIndices.get(READ_INDEX);
+        long writeCount = mIndices.get(WRITE_INDEX);
+        if (writeCount == readCount && mOpen) {
+            if (!block) return 0;
+            for (int i = 0; i < YIELDS_BEFORE_PARKING && (writeCount = mIndices.get(WRITE_INDEX)) == readCount; i++) Thread.yield();
+        }
+        if (writeCount == readCount && mOpen) {
+            mWaitingReader = Thread.currentThread();
+            // Checked again after publishing the waiting thread so that a write in between is not missed.
+            while ((writeCount = mIndices.get(WRITE_INDEX)) == readCount && mOpen) park();
+            mWaitingReader = null;
         }
         if (!mOpen) return -1;
 
-        int totalRead = 0;
-        int bufferLength = mBuffer.length;
-        boolean wasFull = bufferLength == mStoredBytes;
-        int length = buffer.length;
-        int offset = 0;
-        while (length > 0 && mStoredBytes > 0) {
-            int oneRun = Math.min(bufferLength - mHead, mStoredBytes);
-            int bytesToCopy = Math.min(length, oneRun);
-            System.arraycopy(mBuffer, mHead, buffer, offset, bytesToCopy);
-            mHead += bytesToCopy;
-            if (mHead >= bufferLength) mHead = 0;
-            mStoredBytes -= bytesToCopy;
-            length -= bytesToCopy;
-            offset += bytesToCopy;
-            totalRead += bytesToCopy;
-        }
-        if (wasFull) notify();
-        return totalRead;
+        final int bufferLength = mBuffer.length;
+        final int bytesToRead = (int) Math.min(buffer.length, writeCount - readCount);
+        final int head = (int) (readCount % bufferLength);
+        final int oneRun = Math.min(bytesToRead, bufferLength - head);
+        System.arraycopy(mBuffer, head, buffer, 0, oneRun);
+        System.arraycopy(mBuffer, 0, buffer, oneRun, bytesToRead - oneRun);
+        mIndices.set(READ_INDEX, readCount + bytesToRead);
+        LockSupport.unpark(mWaitingWriter);
+        return bytesToRead;
     }
 
     /**
@@ -64,45 +83,37 @@ final class ByteQueue {
         }
 
         final int bufferLength = mBuffer.length;
-
-        synchronized (this) {
-            while (lengthToWrite > 0) {
-                while (bufferLength == mStoredBytes && mOpen) {
-                    try {
-                        wait();
-                    } catch (InterruptedException e) {
-                        // Ignore.
-                    }
-                }
-                if (!mOpen) return false;
-                final boolean wasEmpty = mStoredBytes == 0;
-                int bytesToWriteBeforeWaiting = Math.min(lengthToWrite, bufferLength - mStoredBytes);
-                lengthToWrite -= bytesToWriteBeforeWaiting;
-
-                while (bytesToWriteBeforeWaiting > 0) {
-                    int tail = mHead + mStoredBytes;
-                    int oneRun;
-                    if (tail >= bufferLength) {
-                        // Buffer: [.............]
-                        // ________________H_______T
-                        // =>
-                        // Buffer: [.............]
-                        // ___________T____H
-                        // onRun= _____----_
-                        tail = tail - bufferLength;
-                        oneRun = mHead - tail;
-                    } else {
-                        oneRun = bufferLength - tail;
-                    }
-                    int bytesToCopy = Math.min(oneRun, bytesToWriteBeforeWaiting);
-                    System.arraycopy(buffer, offset, mBuffer, tail, bytesToCopy);
-                    offset += bytesToCopy;
-                    bytesToWriteBeforeWaiting -= bytesToCopy;
-                    mStoredBytes += bytesToCopy;
-                }
-                if (wasEmpty) notify();
+        long writeCount = mIndices.get(WRITE_INDEX);
+        while (lengthToWrite > 0) {
+            long readCount = mIndices.get(READ_INDEX);
+            for (int i = 0; i < YIELDS_BEFORE_PARKING && writeCount - readCount == bufferLength && mOpen; i++) {
+                Thread.yield();
+                readCount = mIndices.get(READ_INDEX);
             }
+            if (writeCount - readCount == bufferLength && mOpen) {
+                mWaitingWriter = Thread.currentThread();
+                while (writeCount - (readCount = mIndices.get(READ_INDEX)) == bufferLength && mOpen) park();
+                mWaitingWriter = null;
+            }
+            if (!mOpen) return false;
+
+            final int bytesToWrite = (int) Math.min(lengthToWrite, bufferLength - (writeCount - readCount));
+            final int tail = (int) (writeCount % bufferLength);
+            final int oneRun = Math.min(bytesToWrite, bufferLength - tail);
+            System.arraycopy(buffer, offset, mBuffer, tail, oneRun);
+            System.arraycopy(buffer, offset + oneRun, mBuffer, 0, bytesToWrite - oneRun);
+            writeCount += bytesToWrite;
+            mIndices.set(WRITE_INDEX, writeCount);
+            LockSupport.unpark(mWaitingReader);
+            offset += bytesToWrite;
+            lengthToWrite -= bytesToWrite;
         }
         return true;
     }
+
+    private void park() {
+        LockSupport.park(this);
+        // Ignore interrupts as wait() did, clearing the flag so that parking blocks again.
+        Thread.interrupted();
+    }
 }
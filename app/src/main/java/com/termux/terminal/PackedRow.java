@@ -0,0 +1,157 @@
+package com.termux.terminal;
+
+/**
+ * A row packed into a compact byte encoding, as kept by a {@link PackedTranscript} or a {@link ScrollbackFile} instead
+ * of a {@link TerminalRow} object. A packed row consists of:
+ * <pre>
+ * - A byte with the {@link #FLAG_LINE_WRAP} and {@link #FLAG_NON_ONE_WIDTH_OR_SURROGATE_CHARS} flags.
+ * - The number of columns of the row.
+ * - The number of java chars used by the row, and the number of them which are stored, leaving out trailing spaces.
+ * - The stored chars, each UTF-8 encoded on its own so that surrogates take three bytes each.
+ * - The number of columns and the style of each run of cells with the same style, followed by a zero.
+ * </pre>
+ * where all numbers are unsigned variable length integers with 7 bits in each byte, least significant first.
+ */
+final class PackedRow {
+
+    static final int FLAG_LINE_WRAP = 1;
+    private static final int FLAG_NON_ONE_WIDTH_OR_SURROGATE_CHARS = 1 << 1;
+
+    /** The packed row, in the first {@link #mLength} bytes. */
+    byte[] mBytes = new byte[1024];
+    int mLength;
+
+    /** Scratch buffer for the chars when unpacking. */
+    private char[] mChars = new char[256];
+    /** The position in {@link #mBytes} {@link #readNumber()} reads from. */
+    private int mReadPosition;
+    /** A row to unpack into first when unpacking into a row with a different number of columns. */
+    private TerminalRow mResizeRow;
+
+    /** Pack a row, replacing the previous contents. */
+    void pack(TerminalRow row) {
+        final char[] text = row.mText;
+        final int spaceUsed = row.getSpaceUsed();
+        int length = spaceUsed;
+        while (length > 0 && text[length - 1] == ' ')
+            length--;
+
+        // At most three bytes per char, and a run length and a style of at most ten bytes each for every column:
+        ensureCapacity(21 + 3 * length + 20 * row.mColumns);
+        final byte[] bytes = mBytes;
+
+        int flags = 0;
+        if (row.mLineWrap) flags |= FLAG_LINE_WRAP;
+        if (row.mHasNonOneWidthOrSurrogateChars) flags |= FLAG_NON_ONE_WIDTH_OR_SURROGATE_CHARS;
+        bytes[0] = (byte) flags;
+        int position = writeNumber(bytes, 1, row.mColumns);
+        position = writeNumber(bytes, position, spaceUsed);
+        position = writeNumber(bytes, position, length);
+        // Copy the ASCII prefix, usually the whole row, in a simpler loop first:
+        int ascii = 0;
+        for (char c; ascii < length && (c = text[ascii]) < 0x80; ascii++)
+            bytes[position + ascii] = (byte) c;
+        position += ascii;
+        for (int i = ascii; i < length; i++) {
+            final char c = text[i];
+            if (c < 0x80) {
+                bytes[position++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xC0 | (c >> 6));
+                bytes[position++] = (byte) (0x80 | (c & 0x3F));
+            } else {
+                bytes[position++] = (byte) (0xE0 | (c >> 12));
+                bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        for (int column = 0, endOfRun; column < row.mColumns; column = endOfRun) {
+            endOfRun = row.findEndOfStyleRun(column);
+            position = writeNumber(bytes, position, endOfRun - column);
+            position = writeNumber(bytes, position, row.getStyle(column));
+        }
+        bytes[position++] = 0;
+        mLength = position;
+    }
+
+    /**
+     * Replace the contents of a row with the packed row. If the number of columns differs, the cells which fit are copied
+     * and the rest of the row is blanked with the style of the last cell.
+     */
+    void unpack(TerminalRow row) {
+        mReadPosition = 1;
+        final int columns = (int) readNumber();
+        if (columns == row.mColumns) {
+            unpackColumns(row);
+            return;
+        }
+
+        if (mResizeRow == null || mResizeRow.mColumns != columns) mResizeRow = new TerminalRow(columns, 0);
+        final TerminalRow packedRow = mResizeRow;
+        unpackColumns(packedRow);
+        int endColumn = Math.min(columns, row.mColumns);
+        // Do not copy the first half of a wide char which does not fit:
+        if (endColumn < columns && WcWidth.width(packedRow.mText, packedRow.findStartOfColumn(endColumn - 1)) == 2) endColumn--;
+        row.clear(packedRow.getStyle(columns - 1));
+        row.copyInterval(packedRow, 0, endColumn, 0);
+        row.mLineWrap = packedRow.mLineWrap;
+    }
+
+    /** Unpack the contents following the number of columns into a row with that number of columns. */
+    private void unpackColumns(TerminalRow row) {
+        final byte[] bytes = mBytes;
+        final int flags = bytes[0];
+        final int spaceUsed = (int) readNumber();
+        final int textLength = (int) readNumber();
+        if (mChars.length < textLength) mChars = new char[Math.max(textLength, 2 * mChars.length)];
+        final char[] chars = mChars;
+        int bytePosition = mReadPosition;
+        for (int i = 0; i < textLength; i++) {
+            final int b = bytes[bytePosition++] & 0xFF;
+            if (b < 0x80) {
+                chars[i] = (char) b;
+            } else if (b < 0xE0) {
+                chars[i] = (char) (((b & 0x1F) << 6) | (bytes[bytePosition++] & 0x3F));
+            } else {
+                chars[i] = (char) (((b & 0x0F) << 12) | ((bytes[bytePosition++] & 0x3F) << 6) | (bytes[bytePosition++] & 0x3F));
+            }
+        }
+        mReadPosition = bytePosition;
+
+        int endOfRun = (int) readNumber();
+        row.setContents(chars, textLength, spaceUsed, (flags & FLAG_NON_ONE_WIDTH_OR_SURROGATE_CHARS) != 0, readNumber());
+        row.mLineWrap = (flags & FLAG_LINE_WRAP) != 0;
+        for (int runLength; (runLength = (int) readNumber()) != 0; endOfRun += runLength)
+            row.setStyle(endOfRun, endOfRun + runLength, readNumber());
+    }
+
+    boolean isLineWrap() {
+        return (mBytes[0] & FLAG_LINE_WRAP) != 0;
+    }
+
+    /** Make room for a packed row of the specified length in {@link #mBytes}. */
+    void ensureCapacity(int length) {
+        if (mBytes.length < length) mBytes = new byte[Math.max(length, 2 * mBytes.length)];
+    }
+
+    /** Write a number in the variable length encoding and return the position after it. */
+    static int writeNumber(byte[] bytes, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            bytes[position++] = (byte) (0x80 | (value & 0x7F));
+            value >>>= 7;
+        }
+        bytes[position++] = (byte) value;
+        return position;
+    }
+
+    private long readNumber() {
+        final byte[] bytes = mBytes;
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            final int b = bytes[mReadPosition++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.termux.terminal;
+
+import java.util.ArrayList;
+
+/**
+ * Rows of a transcript packed into {@link PackedRow} encodings instead of being kept as {@link TerminalRow} objects. Rows
+ * are appended one after another into large shared chunks as they scroll far enough off the screen, each preceded by
+ * its length in the variable length encoding of {@link PackedRow}, and are unpacked again on demand.
+ * <p>
+ * A row is identified by its position in the sequence of all bytes ever appended, so positions are never reused. Rows are
+ * discarded oldest first by {@link #discardBefore(long)}, which frees the chunks before the oldest row still in use.
+ */
+final class PackedTranscript {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /** The chunks from {@link #mFirstChunk} on, each holding {@link #CHUNK_SIZE} bytes of the sequence. */
+    private final ArrayList<byte[]> mChunks = new ArrayList<>();
+    /** The number in the sequence of all chunks of the first chunk in {@link #mChunks}. */
+    private long mFirstChunk;
+    /** The position where the next row is appended. */
+    private long mEnd;
+    /** The last chunk freed, reused for the next chunk needed instead of allocating a new one. */
+    private byte[] mSpareChunk;
+
+    /** Scratch buffers for packing and unpacking a row. */
+    private final byte[] mLengthBytes = new byte[5];
+    private final PackedRow mPackedRow = new PackedRow();
+
+    PackedTranscript() {
+    }
+
+    /**
+     * Construct a copy sharing the chunks of a transcript, for unpacking its rows on another thread. The packed bytes of a
+     * row never change, but a chunk freed by {@link #discardBefore(long)} is reused, so no rows must be discarded from
+     * the original while the copy is in use.
+     */
+    PackedTranscript(PackedTranscript transcript) {
+        mChunks.addAll(transcript.mChunks);
+        mFirstChunk = transcript.mFirstChunk;
+        mEnd = transcript.mEnd;
+    }
+
+    /** Append a row and return its position, to be passed to {@link #unpack(long, TerminalRow)}. */
+    long pack(TerminalRow row) {
+        mPackedRow.pack(row);
+        return append(mPackedRow);
+    }
+
+    /** Append a packed row and return its position. */
+    long append(PackedRow row) {
+        final long rowPosition = mEnd;
+        append(mLengthBytes, PackedRow.writeNumber(mLengthBytes, 0, row.mLength));
+        append(row.mBytes, row.mLength);
+        return rowPosition;
+    }
+
+    /** Replace the contents of a row with a packed row. */
+    void unpack(long rowPosition, TerminalRow row) {
+        read(rowPosition, mPackedRow);
+        mPackedRow.unpack(row);
+    }
+
+    /** Copy the packed row at the specified position. */
+    void read(long rowPosition, PackedRow row) {
+        long position = rowPosition;
+        int length = 0;
+        for (int shift = 0; ; shift += 7) {
+            final int b = chunkAt(position)[(int) (position++ % CHUNK_SIZE)];
+            length |= (b & 0x7F) << shift;
+            if (b >= 0) break;
+        }
+        row.ensureCapacity(length);
+        for (int copied = 0; copied < length; ) {
+            final int chunkOffset = (int) ((position + copied) % CHUNK_SIZE);
+            final int count = Math.min(length - copied, CHUNK_SIZE - chunkOffset);
+            System.arraycopy(chunkAt(position + copied), chunkOffset, row.mBytes, copied, count);
+            copied += count;
+        }
+        row.mLength = length;
+    }
+
+    /** The line wrap flag of a packed row, without unpacking it. */
+    boolean isLineWrap(long rowPosition) {
+        long position = rowPosition;
+        while (chunkAt(position)[(int) (position++ % CHUNK_SIZE)] < 0) {
+            // Skip the length.
+        }
+        return (chunkAt(position)[(int) (position % CHUNK_SIZE)] & PackedRow.FLAG_LINE_WRAP) != 0;
+    }
+
+    private byte[] chunkAt(long position) {
+        return mChunks.get((int) (position / CHUNK_SIZE - mFirstChunk));
+    }
+
+    private void append(byte[] bytes, int length) {
+        for (int copied = 0; copied < length; ) {
+            final int offset = (int) (mEnd % CHUNK_SIZE);
+            if (offset == 0 && mEnd / CHUNK_SIZE - mFirstChunk == mChunks.size()) {
+                mChunks.add(mSpareChunk == null ? new byte[CHUNK_SIZE] : mSpareChunk);
+                mSpareChunk = null;
+            }
+            final int count = Math.min(length - copied, CHUNK_SIZE - offset);
+            System.arraycopy(bytes, copied, chunkAt(mEnd), offset, count);
+            copied += count;
+            mEnd += count;
+        }
+    }
+
+    /** Free the chunks holding only rows before the specified position, which will not be unpacked again. */
+    void discardBefore(long rowPosition) {
+        final long chunk = rowPosition / CHUNK_SIZE;
+        while (mFirstChunk < chunk && !mChunks.isEmpty()) {
+            mSpareChunk = mChunks.remove(0);
+            mFirstChunk++;
+        }
+    }
+
+    /** Discard all rows. Positions of rows packed later still differ from those of the discarded ones. */
+    void clear() {
+        mFirstChunk += mChunks.size();
+        mChunks.clear();
+        mSpareChunk = null;
+        mEnd = mFirstChunk * CHUNK_SIZE;
+    }
+
+}
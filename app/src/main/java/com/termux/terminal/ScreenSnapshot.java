@@ -0,0 +1,66 @@
+package com.termux.terminal;
+
+/**
+ * An immutable view of what a {@link TerminalEmulator} shows, published by {@link TerminalSession} each time output has
+ * been emulated, so that the screen can be drawn on the main thread without waiting for the emulation thread. The rows
+ * are shared with the {@link TerminalBuffer}, which copies a shared row before changing it, so taking a snapshot costs
+ * no more than copying the references to the rows.
+ * <p>
+ * Rows are numbered as in {@link TerminalBuffer}, from -{@link #mActiveTranscriptRows} to {@link #mRows} - 1, but only
+ * the screen and the rows of the transcript from {@link #mFirstRow} are included, see
+ * {@link TerminalSession#setScreenSnapshotTopRow(long)}.
+ */
+public final class ScreenSnapshot {
+
+    public final int mColumns, mRows;
+    /** The number of rows of the transcript above the screen, which may be more than the rows included. */
+    public final int mActiveTranscriptRows;
+    /** The first row included, from -{@link #mActiveTranscriptRows} to 0. */
+    public final int mFirstRow;
+    /**
+     * The total number of rows scrolled up by output when the snapshot was taken. The difference between two snapshots
+     * is the number of rows their text has moved up, for keeping the view, a selection or a search match on it.
+     */
+    public final long mScrolledRows;
+
+    public final int mCursorRow, mCursorCol;
+    /** See {@link TerminalEmulator#getCursorStyle()}. */
+    public final int mCursorStyle;
+    public final boolean mShowingCursor, mReverseVideo;
+    /** The current colors, see {@link TerminalColors#mCurrentColors}. */
+    public final int[] mColors;
+
+    /** The rows from {@link #mFirstRow} to {@link #mRows} - 1. */
+    private final TerminalRow[] mLines;
+
+    /** Share the rows from firstRow to the bottom of the screen and copy the rest of the state drawn. */
+    ScreenSnapshot(TerminalEmulator emulator, int firstRow, long scrolledRows) {
+        final TerminalBuffer screen = emulator.getScreen();
+        mColumns = emulator.mColumns;
+        mRows = emulator.mRows;
+        mActiveTranscriptRows = screen.getActiveTranscriptRows();
+        mFirstRow = Math.max(-mActiveTranscriptRows, Math.min(0, firstRow));
+        mScrolledRows = scrolledRows;
+        mCursorRow = emulator.getCursorRow();
+        mCursorCol = emulator.getCursorCol();
+        mCursorStyle = emulator.getCursorStyle();
+        mShowingCursor = emulator.isShowingCursor();
+        mReverseVideo = emulator.isReverseVideo();
+        mColors = emulator.mColors.mCurrentColors.clone();
+
+        mLines = screen.shareRows(mFirstRow);
+    }
+
+    /** If the specified row and the rest of a screenful below it are included. */
+    public boolean hasRows(int topRow) {
+        return topRow >= mFirstRow && topRow <= 0;
+    }
+
+    /** Get an included row, from {@link #mFirstRow} to {@link #mRows} - 1. */
+    public TerminalRow getRow(int row) {
+        if (row < mFirstRow || row >= mRows)
+            throw new IllegalArgumentException("row=" + row + ", firstRow=" + mFirstRow + ", rows=" + mRows);
+        return mLines[row - mFirstRow];
+    }
+
+}
@@ -0,0 +1,237 @@
+package com.termux.terminal;
+
+import android.util.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Rows evicted from the transcript of a {@link TerminalBuffer}, kept in a memory-mapped file so that the scroll history
+ * is bounded by a maximum file size instead of the heap. Rows are appended as {@link PackedRow} encodings, each preceded
+ * by its length and its signature for searching, see {@link SearchQuery}. Only an index with the position of every
+ * {@value #INDEX_INTERVAL}th row is kept on the heap. Once the file is full, rows are no longer appended, so that the
+ * oldest history is kept before the most recent one in the transcript.
+ * <p>
+ * The file is deleted as soon as it has been created, so that the space is reclaimed when it is no longer mapped even if
+ * the process dies. After {@link #close()} no more rows are appended, while the rows already appended can still be read.
+ * <p>
+ * The methods are synchronized, as rows are appended on another thread while a transcript is reflowed, see
+ * {@link TerminalEmulator#startResize(int, int)}, while the rows already appended are read for drawing.
+ */
+final class ScrollbackFile {
+
+    private static final int REGION_SIZE = 1024 * 1024;
+    private static final int INDEX_INTERVAL = 64;
+    /** The number of bytes of the signature of a row, following its length. */
+    private static final int SIGNATURE_SIZE = 16;
+
+    private final RandomAccessFile mFile;
+    /** The size the rows appended may take up, up to which the file grows by {@link #REGION_SIZE}. */
+    private final long mMaxBytes;
+    /** The regions of the file mapped so far, each {@link #REGION_SIZE} bytes. */
+    private final ArrayList<MappedByteBuffer> mRegions = new ArrayList<>();
+    /** The position of every {@link #INDEX_INTERVAL}th row. */
+    private long[] mIndex = new long[64];
+    /** The number of rows appended. */
+    private int mRows;
+    /** The position where the next row is appended. */
+    private long mEnd;
+    private boolean mClosed;
+    /** If a row did not fit in {@link #mMaxBytes}, after which none are appended until {@link #clear()}. */
+    private boolean mFull;
+
+    /**
+     * The positions of the first {@link #mIntervalRows} rows of the interval between index entries last read from, starting
+     * at row {@link #mIntervalStart}, as consecutive rows are mostly read when drawing, copying or searching.
+     */
+    private final long[] mIntervalPositions = new long[INDEX_INTERVAL];
+    private int mIntervalStart = -1;
+    private int mIntervalRows;
+
+    private final byte[] mRecordHeader = new byte[5 + SIGNATURE_SIZE];
+
+    /** Create an empty scrollback file in the specified directory, which takes up at most about maxBytes. */
+    ScrollbackFile(File directory, long maxBytes) throws IOException {
+        mMaxBytes = maxBytes;
+        final File file = File.createTempFile("scrollback-", null, directory);
+        mFile = new RandomAccessFile(file, "rw");
+        if (!file.delete()) Log.w(EmulatorDebug.LOG_TAG, "Unable to delete scrollback file " + file);
+    }
+
+    /** The number of rows which can be read. */
+    synchronized int getRows() {
+        return mRows;
+    }
+
+    /**
+     * Append a row and its signature, see {@link SearchQuery}, and return true unless closed, full or out of disk space.
+     */
+    synchronized boolean append(PackedRow row, long charBits, long charPairBits) {
+        if (mClosed || mFull) return false;
+        final byte[] header = mRecordHeader;
+        int headerLength = PackedRow.writeNumber(header, 0, row.mLength);
+        for (int i = 0; i < 8; i++) {
+            header[headerLength + i] = (byte) (charBits >>> (8 * i));
+            header[headerLength + 8 + i] = (byte) (charPairBits >>> (8 * i));
+        }
+        headerLength += SIGNATURE_SIZE;
+        if (mEnd + headerLength + row.mLength > mMaxBytes) {
+            Log.i(EmulatorDebug.LOG_TAG, "Scrollback file is full with " + mRows + " rows, no longer appending to it");
+            mFull = true;
+            return false;
+        }
+        try {
+            write(mEnd, header, headerLength);
+            write(mEnd + headerLength, row.mBytes, row.mLength);
+        } catch (IOException e) {
+            Log.e(EmulatorDebug.LOG_TAG, "Unable to extend scrollback file, no longer appending to it", e);
+            close();
+            return false;
+        }
+        if (mRows % INDEX_INTERVAL == 0) {
+            final int indexEntry = mRows / INDEX_INTERVAL;
+            if (indexEntry == mIndex.length) mIndex = Arrays.copyOf(mIndex, 2 * mIndex.length);
+            mIndex[indexEntry] = mEnd;
+        }
+        mRows++;
+        mEnd += headerLength + row.mLength;
+        return true;
+    }
+
+    /** Copy a row, where the oldest row is number 0. */
+    synchronized void read(int rowNumber, PackedRow row) {
+        long position = positionOf(rowNumber);
+        final int length = readLength(position);
+        position += lengthSize(length) + SIGNATURE_SIZE;
+
+        row.ensureCapacity(length);
+        for (int copied = 0; copied < length; ) {
+            final MappedByteBuffer region = regionAt(position + copied);
+            final int regionOffset = (int) ((position + copied) % REGION_SIZE);
+            final int count = Math.min(length - copied, REGION_SIZE - regionOffset);
+            region.position(regionOffset);
+            region.get(row.mBytes, copied, count);
+            copied += count;
+        }
+        row.mLength = length;
+    }
+
+    /**
+     * Read the signature of a row into signature[0] and signature[1], see {@link SearchQuery#signature(char[], int, long[])},
+     * and return its line wrap flag, without copying the row.
+     */
+    synchronized boolean readSignature(int rowNumber, long[] signature) {
+        long position = positionOf(rowNumber);
+        position += lengthSize(readLength(position));
+        signature[0] = readLong(position);
+        signature[1] = readLong(position + 8);
+        return (byteAt(position + SIGNATURE_SIZE) & PackedRow.FLAG_LINE_WRAP) != 0;
+    }
+
+    /** The position of a row, found from the closest index entry before it unless already known. */
+    private long positionOf(int rowNumber) {
+        if (rowNumber < 0 || rowNumber >= mRows)
+            throw new IllegalArgumentException("rowNumber=" + rowNumber + ", mRows=" + mRows);
+        final int intervalStart = rowNumber - rowNumber % INDEX_INTERVAL;
+        if (intervalStart != mIntervalStart) {
+            mIntervalStart = intervalStart;
+            mIntervalPositions[0] = mIndex[rowNumber / INDEX_INTERVAL];
+            mIntervalRows = 1;
+        }
+        // Step over the rows from the last known one, each preceded by its length and signature:
+        while (mIntervalRows <= rowNumber - intervalStart) {
+            final long previous = mIntervalPositions[mIntervalRows - 1];
+            final int length = readLength(previous);
+            mIntervalPositions[mIntervalRows++] = previous + lengthSize(length) + SIGNATURE_SIZE + length;
+        }
+        return mIntervalPositions[rowNumber - intervalStart];
+    }
+
+    private int readLength(long position) {
+        int length = 0;
+        for (int shift = 0; ; shift += 7) {
+            final int b = byteAt(position++);
+            length |= (b & 0x7F) << shift;
+            if (b >= 0) return length;
+        }
+    }
+
+    /** The number of bytes of a length in the variable length encoding of {@link PackedRow}. */
+    private static int lengthSize(int length) {
+        int size = 1;
+        while ((length >>>= 7) != 0)
+            size++;
+        return size;
+    }
+
+    private long readLong(long position) {
+        long value = 0;
+        for (int i = 0; i < 8; i++)
+            value |= (byteAt(position + i) & 0xFFL) << (8 * i);
+        return value;
+    }
+
+    private byte byteAt(long position) {
+        return regionAt(position).get((int) (position % REGION_SIZE));
+    }
+
+    /** Discard all rows, reusing the space already mapped for the rows appended later. */
+    synchronized void clear() {
+        mRows = 0;
+        mEnd = 0;
+        mFull = false;
+        mIntervalStart = -1;
+    }
+
+    /** Stop appending rows and close the file, which is freed once its mapped regions have been garbage collected. */
+    synchronized void close() {
+        if (mClosed) return;
+        mClosed = true;
+        try {
+            mFile.close();
+        } catch (IOException e) {
+            Log.w(EmulatorDebug.LOG_TAG, "Unable to close scrollback file", e);
+        }
+    }
+
+    private void write(long position, byte[] bytes, int length) throws IOException {
+        for (int copied = 0; copied < length; ) {
+            final long regionNumber = (position + copied) / REGION_SIZE;
+            while (mRegions.size() <= regionNumber)
+                mapRegion();
+            final MappedByteBuffer region = mRegions.get((int) regionNumber);
+            final int regionOffset = (int) ((position + copied) % REGION_SIZE);
+            final int count = Math.min(length - copied, REGION_SIZE - regionOffset);
+            region.position(regionOffset);
+            region.put(bytes, copied, count);
+            copied += count;
+        }
+    }
+
+    /**
+     * Map the next region of the file. It is written out first, so that running out of disk space fails here instead of
+     * when storing into the mapped memory, which would crash the process.
+     */
+    private void mapRegion() throws IOException {
+        final FileChannel channel = mFile.getChannel();
+        final long start = (long) mRegions.size() * REGION_SIZE;
+        final ByteBuffer zeros = ByteBuffer.allocate(64 * 1024);
+        for (long position = start; position < start + REGION_SIZE; position += zeros.capacity()) {
+            zeros.clear();
+            while (zeros.hasRemaining())
+                channel.write(zeros, position + zeros.position());
+        }
+        mRegions.add(channel.map(FileChannel.MapMode.READ_WRITE, start, REGION_SIZE));
+    }
+
+    private MappedByteBuffer regionAt(long position) {
+        return mRegions.get((int) (position / REGION_SIZE));
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.termux.terminal;
+
+import java.util.regex.Pattern;
+
+/**
+ * A literal or regular expression query for {@link TerminalBuffer#find(SearchQuery, int, int, boolean, int[])}, matched
+ * against each logical line of the transcript, that is the rows joined by line wrapping.
+ * <p>
+ * Rows of the transcript get a signature when they are packed, see {@link #signature(char[], int, long[])}, which is a
+ * bitmap of the chars and pairs of adjacent chars in them. A literal query skips the lines whose signatures lack any of
+ * its own bits without unpacking their rows, while a regular expression is matched against every line.
+ */
+public final class SearchQuery {
+
+    final Pattern mPattern;
+    /** The bits of {@link #signature(char[], int, long[])} a line must have to contain a match, or zero if unknown. */
+    final long mCharBits, mCharPairBits;
+
+    private SearchQuery(Pattern pattern, long charBits, long charPairBits) {
+        mPattern = pattern;
+        mCharBits = charBits;
+        mCharPairBits = charPairBits;
+    }
+
+    /** A query for text, where case is only ignored for ASCII letters. */
+    public static SearchQuery literal(String text, boolean ignoreCase) {
+        if (text.isEmpty()) throw new IllegalArgumentException("Empty search text");
+        final long[] signature = new long[2];
+        signature(text.toCharArray(), text.length(), signature);
+        return new SearchQuery(Pattern.compile(Pattern.quote(text), ignoreCase ? Pattern.CASE_INSENSITIVE : 0), signature[0], signature[1]);
+    }
+
+    /**
+     * A query for a regular expression, where case is only ignored for ASCII letters. Matches of no chars are skipped.
+     *
+     * @throws java.util.regex.PatternSyntaxException if the expression is invalid.
+     */
+    public static SearchQuery regex(String regex, boolean ignoreCase) {
+        return new SearchQuery(Pattern.compile(regex, ignoreCase ? Pattern.CASE_INSENSITIVE : 0), 0, 0);
+    }
+
+    /** If a line with the specified signature may contain a match, only checking single chars if it spans several rows. */
+    boolean mayMatch(long charBits, long charPairBits, boolean severalRows) {
+        return (charBits & mCharBits) == mCharBits && (severalRows || (charPairBits & mCharPairBits) == mCharPairBits);
+    }
+
+    /**
+     * Compute the signature of a text into signature[0], with one bit set for each char, and into signature[1], with one
+     * bit set for each pair of adjacent chars. ASCII letters are folded to lower case, so that the signature of a text
+     * includes those of the texts matching it when ignoring case.
+     */
+    static void signature(char[] text, int length, long[] signature) {
+        long charBits = 0, charPairBits = 0;
+        int previous = -1;
+        for (int i = 0; i < length; i++) {
+            int c = text[i];
+            if (c >= 'A' && c <= 'Z') c += 'a' - 'A';
+            charBits |= 1L << ((c * 0x9E3779B1) >>> 26);
+            if (previous >= 0) charPairBits |= 1L << (((previous * 31 + c) * 0x9E3779B1) >>> 26);
+            previous = c;
+        }
+        signature[0] = charBits;
+        signature[1] = charPairBits;
+    }
+
+}
@@ -1,6 +1,14 @@
 package com.termux.terminal;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.regex.Matcher;
 
 /**
  * A circular buffer of {@link TerminalRow}:s which keeps notes about what is visible on a logical screen and the scroll
@@ -10,33 +18,112 @@ import java.util.Arrays;
  */
 public final class TerminalBuffer {
 
+    /**
+     * The number of transcript rows right above the screen which are kept as {@link TerminalRow} objects. Older rows are
+     * packed into {@link #mPackedTranscript} and have null entries in {@link #mLines}.
+     */
+    static final int UNPACKED_TRANSCRIPT_ROWS = 100;
+    /** The number of packed or scrollback file rows kept unpacked for reading, more than fit on a screen. */
+    private static final int UNPACKED_ROW_CACHE_SIZE = 128;
+    /** The number of history rows there is room for in {@link #mLines} at first, which then grows as needed. */
+    private static final int INITIAL_TRANSCRIPT_ROWS = 2 * UNPACKED_TRANSCRIPT_ROWS;
+
     TerminalRow[] mLines;
     /** The length of {@link #mLines}. */
     int mTotalRows;
+    /** The number of rows, including the screen, {@link #mLines} grows to as the history fills up. */
+    int mMaxTotalRows;
     /** The number of rows and columns visible on the screen. */
     int mScreenRows, mColumns;
+    /**
+     * Incremented each time the rows are shared by {@link #shareRows(int)}. A row created or copied in an older
+     * version, see {@link TerminalRow#mVersion}, may still be read on another thread, so it is copied before being
+     * changed.
+     */
+    private int mVersion;
     /** The number of rows kept in history. */
     private int mActiveTranscriptRows = 0;
     /** The index in the circular buffer where the visible screen starts. */
     private int mScreenFirstRow = 0;
+    /** The older rows of the transcript, created when the first row is packed. */
+    private PackedTranscript mPackedTranscript;
+    /** The position in {@link #mPackedTranscript} of the row packed for each index in {@link #mLines}, or -1. */
+    private long[] mPackedRowPositions;
+    /**
+     * The signature of the row packed for each index in {@link #mLines}, at twice the index, for searching without
+     * unpacking it. See {@link SearchQuery#signature(char[], int, long[])}.
+     */
+    private long[] mPackedRowSignatures;
+    /** Packed rows recently unpacked for reading, at the index of their row modulo the cache size. */
+    private final TerminalRow[] mUnpackedRows = new TerminalRow[UNPACKED_ROW_CACHE_SIZE];
+    /**
+     * The position in {@link #mPackedTranscript} of each row in {@link #mUnpackedRows}, -2 minus the number of a row in
+     * {@link #mScrollbackFile}, or -1.
+     */
+    private final long[] mUnpackedRowPositions = new long[UNPACKED_ROW_CACHE_SIZE];
+    /** The rows which no longer fit in the transcript, or null to discard them. */
+    private ScrollbackFile mScrollbackFile;
+    /**
+     * The number of rows in {@link #mScrollbackFile} which are part of this buffer. A copy of the buffer being resized on
+     * another thread appends rows to the same file, which only become part of the history once the copy replaces it.
+     */
+    private int mScrollbackRows;
+    /** Scratch buffer for moving rows into and out of {@link #mScrollbackFile}. */
+    private PackedRow mScrollbackRow;
+    /** Scratch buffer for the signature of a row, see {@link SearchQuery#signature(char[], int, long[])}. */
+    private final long[] mSignature = new long[2];
+    /** Scratch buffers for the text of a logical line being searched, and the first and last column of each char. */
+    private final StringBuilder mSearchText = new StringBuilder();
+    private int[] mSearchStartColumns = new int[256], mSearchEndColumns = new int[256];
+    /** The range of chars and whether a new line follows of the row last read by {@link #getSelectedRow}. */
+    private int mSelectedRowStart, mSelectedRowEnd;
+    private boolean mSelectedRowNewLine;
 
     /**
      * Create a transcript screen.
      *
      * @param columns    the width of the screen in characters.
-     * @param totalRows  the height of the entire text area, in rows of text.
+     * @param totalRows  the maximum height of the entire text area, in rows of text. Room for the rows is made as the
+     *                   history fills up, see {@link #setMaxTotalRows(int)}.
      * @param screenRows the height of just the screen, not including the transcript that holds lines that have scrolled off
      *                   the top of the screen.
      */
     public TerminalBuffer(int columns, int totalRows, int screenRows) {
         mColumns = columns;
-        mTotalRows = totalRows;
+        mMaxTotalRows = totalRows;
+        mTotalRows = Math.max(screenRows, Math.min(totalRows, screenRows + INITIAL_TRANSCRIPT_ROWS));
         mScreenRows = screenRows;
-        mLines = new TerminalRow[totalRows];
+        mLines = new TerminalRow[mTotalRows];
+        Arrays.fill(mUnpackedRowPositions, -1);
 
         blockSet(0, 0, columns, screenRows, ' ', TextStyle.NORMAL);
     }
 
+    /**
+     * Create a copy of a buffer to be resized on another thread, while the original is only read until the copy replaces
+     * it. The rows which have not been packed are copied, while the packed rows and the scrollback file are shared.
+     */
+    TerminalBuffer(TerminalBuffer buffer) {
+        mColumns = buffer.mColumns;
+        mTotalRows = buffer.mTotalRows;
+        mMaxTotalRows = buffer.mMaxTotalRows;
+        mScreenRows = buffer.mScreenRows;
+        mActiveTranscriptRows = buffer.mActiveTranscriptRows;
+        mScreenFirstRow = buffer.mScreenFirstRow;
+        mLines = new TerminalRow[mTotalRows];
+        for (int i = 0; i < mTotalRows; i++)
+            if (buffer.mLines[i] != null) mLines[i] = new TerminalRow(buffer.mLines[i]);
+        if (buffer.mPackedTranscript != null) {
+            mPackedTranscript = new PackedTranscript(buffer.mPackedTranscript);
+            mPackedRowPositions = buffer.mPackedRowPositions.clone();
+            mPackedRowSignatures = buffer.mPackedRowSignatures.clone();
+        }
+        Arrays.fill(mUnpackedRowPositions, -1);
+        mScrollbackFile = buffer.mScrollbackFile;
+        mScrollbackRows = buffer.mScrollbackRows;
+        if (mScrollbackFile != null) mScrollbackRow = new PackedRow();
+    }
+
     public String getTranscriptText() {
         return getSelectedText(0, -getActiveTranscriptRows(), mColumns, mScreenRows).trim();
     }
@@ -59,68 +146,353 @@ public final class TerminalBuffer {
 
     public String getSelectedText(int selX1, int selY1, int selX2, int selY2, boolean joinBackLines, boolean joinFullLines) {
         final StringBuilder builder = new StringBuilder();
-        final int columns = mColumns;
+        try {
+            writeText(builder, selX1, selY1, selX2, selY2, joinBackLines, joinFullLines, false);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Write the text of {@link #getSelectedText(int, int, int, int, boolean, boolean)} row by row, without building it in
+     * memory.
+     *
+     * @param trim true to leave out leading and trailing whitespace as {@link String#trim()}.
+     */
+    public void writeSelectedText(Appendable out, int selX1, int selY1, int selX2, int selY2, boolean joinBackLines, boolean joinFullLines,
+                                  boolean trim) throws IOException {
+        writeText(out, selX1, selY1, selX2, selY2, joinBackLines, joinFullLines, trim);
+    }
+
+    /** Write the trimmed text of the transcript and the screen row by row, see {@link #getTranscriptText()}. */
+    public void writeTranscriptText(Appendable out, boolean joinBackLines, boolean joinFullLines) throws IOException {
+        writeText(out, 0, -getActiveTranscriptRows(), mColumns, mScreenRows, joinBackLines, joinFullLines, true);
+    }
 
+    /**
+     * Write the trimmed text of the transcript and the screen encoded as UTF-8, see {@link #getTranscriptText()}. Text is
+     * encoded through a buffer of about a row, which is written to the channel whenever it fills up.
+     */
+    public void writeTranscriptText(WritableByteChannel channel, boolean joinBackLines, boolean joinFullLines) throws IOException {
+        final ChannelWriter writer = new ChannelWriter(channel, 4 * mColumns);
+        writeTranscriptText(writer, joinBackLines, joinFullLines);
+        writer.flush();
+    }
+
+    private void writeText(Appendable out, int selX1, int selY1, int selX2, int selY2, boolean joinBackLines, boolean joinFullLines,
+                           boolean trim) throws IOException {
         if (selY1 < -getActiveTranscriptRows()) selY1 = -getActiveTranscriptRows();
         if (selY2 >= mScreenRows) selY2 = mScreenRows - 1;
 
+        // When trimming, the whitespace after the last written non-whitespace char is not kept but noted as the row and
+        // the index where it starts, and the rows are read again to write it once more text follows.
+        boolean written = false;
+        int whitespaceRow = 0, whitespaceIndex = 0;
         for (int row = selY1; row <= selY2; row++) {
-            int x1 = (row == selY1) ? selX1 : 0;
-            int x2;
-            if (row == selY2) {
-                x2 = selX2 + 1;
-                if (x2 > columns) x2 = columns;
-            } else {
-                x2 = columns;
+            TerminalRow line = getSelectedRow(row, selX1, selY1, selX2, selY2, joinBackLines, joinFullLines);
+            if (!trim) {
+                writeSelectedRow(out, line, mSelectedRowStart);
+                continue;
             }
-            TerminalRow lineObject = mLines[externalToInternalRow(row)];
-            int x1Index = lineObject.findStartOfColumn(x1);
-            int x2Index = (x2 < mColumns) ? lineObject.findStartOfColumn(x2) : lineObject.getSpaceUsed();
-            if (x2Index == x1Index) {
-                // Selected the start of a wide character.
-                x2Index = lineObject.findStartOfColumn(x2 + 1);
+            final char[] text = line.mText;
+            int first = mSelectedRowStart;
+            while (first < mSelectedRowEnd && text[first] <= ' ') first++;
+            if (first >= mSelectedRowEnd) continue;
+            int last = mSelectedRowEnd - 1;
+            while (text[last] <= ' ') last--;
+            if (written) {
+                for (int whitespace = whitespaceRow; whitespace < row; whitespace++) {
+                    final TerminalRow whitespaceLine = getSelectedRow(whitespace, selX1, selY1, selX2, selY2, joinBackLines, joinFullLines);
+                    writeSelectedRow(out, whitespaceLine, whitespace == whitespaceRow ? whitespaceIndex : mSelectedRowStart);
+                }
+                // Reading the rows again may have reused the cached object of this row.
+                line = getSelectedRow(row, selX1, selY1, selX2, selY2, joinBackLines, joinFullLines);
+                first = mSelectedRowStart;
             }
-            char[] line = lineObject.mText;
-            int lastPrintingCharIndex = -1;
-            int i;
-            boolean rowLineWrap = getLineWrap(row);
-            if (rowLineWrap && x2 == columns) {
-                // If the line was wrapped, we shouldn't lose trailing space:
-                lastPrintingCharIndex = x2Index - 1;
-            } else {
-                for (i = x1Index; i < x2Index; ++i) {
-                    char c = line[i];
-                    if (c != ' ') lastPrintingCharIndex = i;
+            writeChars(out, line.mText, first, last + 1);
+            written = true;
+            whitespaceRow = row;
+            whitespaceIndex = last + 1;
+        }
+    }
+
+    /** Write the chars of a row from an index to {@link #mSelectedRowEnd}, and a new line if one follows the row. */
+    private void writeSelectedRow(Appendable out, TerminalRow line, int start) throws IOException {
+        if (start < mSelectedRowEnd) writeChars(out, line.mText, start, mSelectedRowEnd);
+        if (mSelectedRowNewLine) out.append('\n');
+    }
+
+    private static void writeChars(Appendable out, char[] text, int start, int end) throws IOException {
+        // A StringBuilder would otherwise append a wrapped array char by char.
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(text, start, end - start);
+        } else {
+            out.append(CharBuffer.wrap(text, start, end - start));
+        }
+    }
+
+    /**
+     * Read a row of a selection and set {@link #mSelectedRowStart} and {@link #mSelectedRowEnd} to the range of its chars
+     * which are selected, leaving out trailing spaces unless the row is wrapped, and {@link #mSelectedRowNewLine} to
+     * whether a new line follows it.
+     *
+     * @return the row, valid as the result of {@link #getLineForReading(int)}.
+     */
+    private TerminalRow getSelectedRow(int row, int selX1, int selY1, int selX2, int selY2, boolean joinBackLines, boolean joinFullLines) {
+        final int columns = mColumns;
+        int x1 = (row == selY1) ? selX1 : 0;
+        int x2;
+        if (row == selY2) {
+            x2 = selX2 + 1;
+            if (x2 > columns) x2 = columns;
+        } else {
+            x2 = columns;
+        }
+        TerminalRow lineObject = getLineForReading(externalToInternalRow(row));
+        int x1Index = lineObject.findStartOfColumn(x1);
+        int x2Index = (x2 < mColumns) ? lineObject.findStartOfColumn(x2) : lineObject.getSpaceUsed();
+        if (x2Index == x1Index) {
+            // Selected the start of a wide character.
+            x2Index = lineObject.findStartOfColumn(x2 + 1);
+        }
+        char[] line = lineObject.mText;
+        int lastPrintingCharIndex = -1;
+        int i;
+        boolean rowLineWrap = getLineWrap(row);
+        if (rowLineWrap && x2 == columns) {
+            // If the line was wrapped, we shouldn't lose trailing space:
+            lastPrintingCharIndex = x2Index - 1;
+        } else {
+            for (i = x1Index; i < x2Index; ++i) {
+                char c = line[i];
+                if (c != ' ') lastPrintingCharIndex = i;
+            }
+        }
+        mSelectedRowStart = x1Index;
+        mSelectedRowEnd = (lastPrintingCharIndex == -1) ? x1Index : lastPrintingCharIndex + 1;
+        boolean lineFillsWidth = lastPrintingCharIndex == x2Index - 1;
+        mSelectedRowNewLine = (!joinBackLines || !rowLineWrap) && (!joinFullLines || !lineFillsWidth)
+            && row < selY2 && row < mScreenRows - 1;
+        return lineObject;
+    }
+
+    /**
+     * Find the closest match of a query after a position, or before it if searching backwards. Matches do not span logical
+     * lines, and the lines which cannot contain a match according to the signatures of their rows are skipped without
+     * unpacking them, see {@link SearchQuery}.
+     *
+     * @param row     the external row to search from, see {@link #externalToInternalRow(int)}.
+     * @param column  the column to search from, which may be -1 or {@link #mColumns} to include all of the row.
+     * @param forward true to search towards the bottom of the screen, false to search towards the oldest row.
+     * @param match   an int[4] receiving the (row, column) of the first and the last cell of the match if found.
+     * @return true if a match was found.
+     */
+    public boolean find(SearchQuery query, int row, int column, boolean forward, int[] match) {
+        final int firstRow = -getActiveTranscriptRows();
+        if (row < firstRow) {
+            if (!forward) return false;
+            row = firstRow;
+            column = -1;
+        } else if (row >= mScreenRows) {
+            if (forward) return false;
+            row = mScreenRows - 1;
+            column = mColumns;
+        }
+
+        final long[] signature = mSignature;
+        int lineStart = row;
+        while (lineStart > firstRow && getRowSignature(lineStart - 1, signature))
+            lineStart--;
+        while (lineStart >= firstRow && lineStart < mScreenRows) {
+            long charBits = 0, charPairBits = 0;
+            int lineEnd = lineStart;
+            while (true) {
+                final boolean lineWrap = getRowSignature(lineEnd, signature);
+                charBits |= signature[0];
+                charPairBits |= signature[1];
+                if (!lineWrap || lineEnd == mScreenRows - 1) break;
+                lineEnd++;
+            }
+            if (query.mayMatch(charBits, charPairBits, lineEnd > lineStart) && findInLine(query, lineStart, lineEnd, row, column, forward, match))
+                return true;
+            if (forward) {
+                lineStart = lineEnd + 1;
+            } else if (--lineStart >= firstRow) {
+                while (lineStart > firstRow && getRowSignature(lineStart - 1, signature))
+                    lineStart--;
+            }
+        }
+        return false;
+    }
+
+    /** Find a match of a query in a logical line for {@link #find(SearchQuery, int, int, boolean, int[])}. */
+    private boolean findInLine(SearchQuery query, int lineStart, int lineEnd, int row, int column, boolean forward, int[] match) {
+        final StringBuilder text = mSearchText;
+        text.setLength(0);
+        for (int lineRow = lineStart; lineRow <= lineEnd; lineRow++) {
+            final TerminalRow line = getLineForReading(externalToInternalRow(lineRow));
+            final char[] chars = line.mText;
+            // Keep trailing spaces of wrapped rows only, as when copying text:
+            int end = line.getSpaceUsed();
+            if (!line.mLineWrap) {
+                while (end > 0 && chars[end - 1] == ' ')
+                    end--;
+            }
+            if (mSearchStartColumns.length < text.length() + end) {
+                mSearchStartColumns = Arrays.copyOf(mSearchStartColumns, 2 * (text.length() + end));
+                mSearchEndColumns = Arrays.copyOf(mSearchEndColumns, mSearchStartColumns.length);
+            }
+            // Columns are numbered from the start of the logical line, with combining chars belonging to the preceding cell:
+            int nextColumn = (lineRow - lineStart) * mColumns;
+            int cellStart = nextColumn, cellEnd = nextColumn;
+            for (int i = 0; i < end; i++) {
+                final char c = chars[i];
+                final boolean surrogatePair = Character.isHighSurrogate(c) && i + 1 < end;
+                final int width = WcWidth.width(surrogatePair ? Character.toCodePoint(c, chars[i + 1]) : c);
+                if (width > 0) {
+                    cellStart = nextColumn;
+                    cellEnd = nextColumn + width - 1;
+                    nextColumn += width;
+                }
+                mSearchStartColumns[text.length()] = cellStart;
+                mSearchEndColumns[text.length()] = cellEnd;
+                text.append(c);
+                if (surrogatePair) {
+                    mSearchStartColumns[text.length()] = cellStart;
+                    mSearchEndColumns[text.length()] = cellEnd;
+                    text.append(chars[++i]);
                 }
             }
-            if (lastPrintingCharIndex != -1)
-                builder.append(line, x1Index, lastPrintingCharIndex - x1Index + 1);
-            boolean lineFillsWidth = lastPrintingCharIndex == x2Index - 1;
-            if ((!joinBackLines || !rowLineWrap) && (!joinFullLines || !lineFillsWidth)
-                && row < selY2 && row < mScreenRows - 1) builder.append('\n');
         }
-        return builder.toString();
+
+        final long from = (long) (row - lineStart) * mColumns + column;
+        final Matcher matcher = query.mPattern.matcher(text);
+        boolean found = false;
+        while (matcher.find()) {
+            if (matcher.end() == matcher.start()) continue;
+            final int start = mSearchStartColumns[matcher.start()];
+            if (forward ? start <= from : start >= from) {
+                if (forward) continue;
+                break;
+            }
+            final int last = mSearchEndColumns[matcher.end() - 1];
+            match[0] = lineStart + start / mColumns;
+            match[1] = start % mColumns;
+            match[2] = lineStart + last / mColumns;
+            match[3] = last % mColumns;
+            found = true;
+            if (forward) break;
+        }
+        return found;
     }
 
+    /**
+     * Get the signature of a row for searching without unpacking it, with all bits set if it is not packed, and return its
+     * line wrap flag.
+     */
+    private boolean getRowSignature(int externalRow, long[] signature) {
+        final int row = externalToInternalRow(externalRow);
+        if (row >= mTotalRows) return mScrollbackFile.readSignature(row - mTotalRows, signature);
+        final TerminalRow line = mLines[row];
+        if (line == null && isPacked(row)) {
+            signature[0] = mPackedRowSignatures[2 * row];
+            signature[1] = mPackedRowSignatures[2 * row + 1];
+            return mPackedTranscript.isLineWrap(mPackedRowPositions[row]);
+        }
+        signature[0] = signature[1] = -1;
+        return line != null && line.mLineWrap;
+    }
+
+    /** The number of rows in history, including those in the scrollback file if there is one. */
     public int getActiveTranscriptRows() {
-        return mActiveTranscriptRows;
+        return mActiveTranscriptRows + mScrollbackRows;
     }
 
     public int getActiveRows() {
-        return mActiveTranscriptRows + mScreenRows;
+        return getActiveTranscriptRows() + mScreenRows;
+    }
+
+    /**
+     * Append the rows which no longer fit in the transcript to a file instead of discarding them, where they can be read
+     * as rows further up in the history.
+     */
+    void setScrollbackFile(ScrollbackFile scrollbackFile) {
+        mScrollbackFile = scrollbackFile;
+        mScrollbackRows = scrollbackFile.getRows();
+        if (mScrollbackRow == null) mScrollbackRow = new PackedRow();
+    }
+
+    /**
+     * Change the maximum number of rows, including the screen. If the buffer holds more rows, the oldest rows of the history
+     * which no longer fit are moved to the scrollback file or discarded, and the others are kept as they are instead of
+     * being reflowed.
+     */
+    void setMaxTotalRows(int maxTotalRows) {
+        mMaxTotalRows = maxTotalRows;
+        final int totalRows = Math.max(maxTotalRows, mScreenRows);
+        if (totalRows >= mTotalRows) return;
+        final int droppedRows = Math.max(0, mActiveTranscriptRows - (totalRows - mScreenRows));
+        for (int i = 0; i < droppedRows; i++) {
+            final int row = externalToInternalRow(i - mActiveTranscriptRows);
+            if (mScrollbackFile != null) evictRow(row);
+            discardPackedRow(row);
+        }
+        mActiveTranscriptRows -= droppedRows;
+        setTotalRows(totalRows);
+    }
+
+    /**
+     * Make room for a number of history rows by growing {@link #mLines} if it is below {@link #mMaxTotalRows}. It at least
+     * doubles in size each time, so that rows are only moved a few times on average.
+     */
+    private void ensureTranscriptCapacity(int transcriptRows) {
+        if (transcriptRows <= mTotalRows - mScreenRows || mTotalRows >= mMaxTotalRows) return;
+        setTotalRows(Math.min(mMaxTotalRows, Math.max(2 * mTotalRows, mScreenRows + transcriptRows)));
+    }
+
+    /**
+     * Change the length of the circular buffer, keeping the history and the screen with the oldest row first. When
+     * shrinking, the history must already fit.
+     */
+    private void setTotalRows(int totalRows) {
+        final int firstRow = (mScreenFirstRow - mActiveTranscriptRows + mTotalRows) % mTotalRows;
+        final int keptRows = Math.min(mTotalRows, totalRows);
+        final TerminalRow[] lines = new TerminalRow[totalRows];
+        final long[] packedRowPositions = (mPackedRowPositions == null) ? null : new long[totalRows];
+        final long[] packedRowSignatures = (mPackedRowPositions == null) ? null : new long[2 * totalRows];
+        if (packedRowPositions != null) Arrays.fill(packedRowPositions, keptRows, totalRows, -1);
+        for (int i = 0; i < keptRows; i++) {
+            final int row = (firstRow + i) % mTotalRows;
+            lines[i] = mLines[row];
+            if (packedRowPositions != null) {
+                packedRowPositions[i] = mPackedRowPositions[row];
+                packedRowSignatures[2 * i] = mPackedRowSignatures[2 * row];
+                packedRowSignatures[2 * i + 1] = mPackedRowSignatures[2 * row + 1];
+            }
+        }
+        mLines = lines;
+        mPackedRowPositions = packedRowPositions;
+        mPackedRowSignatures = packedRowSignatures;
+        mTotalRows = totalRows;
+        mScreenFirstRow = mActiveTranscriptRows;
     }
 
     /**
      * Convert a row value from the public external coordinate system to our internal private coordinate system.
      *
      * <pre>
-     * - External coordinate system: -mActiveTranscriptRows to mScreenRows-1, with the screen being 0..mScreenRows-1.
+     * - External coordinate system: -getActiveTranscriptRows() to mScreenRows-1, with the screen being 0..mScreenRows-1.
      * - Internal coordinate system: the mScreenRows lines starting at mScreenFirstRow comprise the screen, while the
-     *   mActiveTranscriptRows lines ending at mScreenFirstRow-1 form the transcript (as a circular buffer).
+     *   mActiveTranscriptRows lines ending at mScreenFirstRow-1 form the transcript (as a circular buffer). The older
+     *   rows in the scrollback file, if any, follow the circular buffer from mTotalRows on, oldest first. They can only
+     *   be read through {@link #getLineForReading(int)}.
      *
      * External ↔ Internal:
      *
+     * [ -getActiveTranscriptRows()     ]     [ mTotalRows                              ]
      * [ ...                            ]     [ ...                                     ]
+     * [ -mActiveTranscriptRows - 1     ]     [ mTotalRows + scrollback file rows - 1   ]
      * [ -mActiveTranscriptRows         ]     [ mScreenFirstRow - mActiveTranscriptRows ]
      * [ ...                            ]     [ ...                                     ]
      * [ 0 (visible screen starts here) ]  ↔  [ mScreenFirstRow                         ]
@@ -132,34 +504,47 @@ public final class TerminalBuffer {
      * @return The row corresponding to the input argument in the private coordinate system.
      */
     public int externalToInternalRow(int externalRow) {
-        if (externalRow < -mActiveTranscriptRows || externalRow > mScreenRows)
+        if (externalRow < -mActiveTranscriptRows) {
+            final int transcriptRows = getActiveTranscriptRows();
+            if (externalRow < -transcriptRows)
+                throw new IllegalArgumentException("extRow=" + externalRow + ", mScreenRows=" + mScreenRows + ", mActiveTranscriptRows=" + mActiveTranscriptRows + ", transcriptRows=" + transcriptRows);
+            return mTotalRows + transcriptRows + externalRow;
+        }
+        if (externalRow > mScreenRows)
             throw new IllegalArgumentException("extRow=" + externalRow + ", mScreenRows=" + mScreenRows + ", mActiveTranscriptRows=" + mActiveTranscriptRows);
         final int internalRow = mScreenFirstRow + externalRow;
         return (internalRow < 0) ? (mTotalRows + internalRow) : (internalRow % mTotalRows);
     }
 
     public void setLineWrap(int row) {
-        mLines[externalToInternalRow(row)].mLineWrap = true;
+        getLineForWriting(externalToInternalRow(row)).mLineWrap = true;
     }
 
     public boolean getLineWrap(int row) {
-        return mLines[externalToInternalRow(row)].mLineWrap;
+        return getLineForReading(externalToInternalRow(row)).mLineWrap;
     }
 
     public void clearLineWrap(int row) {
-        mLines[externalToInternalRow(row)].mLineWrap = false;
+        row = externalToInternalRow(row);
+        // Rows are mostly not wrapped, so only get a shared row for writing if there is a line wrap to clear:
+        if (allocateFullLineIfNecessary(row).mLineWrap) getLineForWriting(row).mLineWrap = false;
     }
 
     /**
      * Resize the screen which this transcript backs. Currently, this only works if the number of columns does not
      * change or the rows expand (that is, it only works when shrinking the number of rows).
      *
-     * @param newColumns The number of columns the screen should have.
-     * @param newRows    The number of rows the screen should have.
-     * @param cursor     An int[2] containing the (column, row) cursor location.
+     * @param newColumns   The number of columns the screen should have.
+     * @param newRows      The number of rows the screen should have.
+     * @param newTotalRows The maximum number of rows including the screen, see {@link #setMaxTotalRows(int)}.
+     * @param cursor       An int[2] containing the (column, row) cursor location.
      */
     public void resize(int newColumns, int newRows, int newTotalRows, int[] cursor, long currentStyle, boolean altScreen) {
-        // newRows > mTotalRows should not normally happen since mTotalRows is TRANSCRIPT_ROWS (10000):
+        mMaxTotalRows = newTotalRows;
+        // Grow the circular buffer of the main screen to fit a larger screen:
+        if (!altScreen && newRows > mTotalRows) setTotalRows(Math.max(newRows, Math.min(newTotalRows, 2 * mTotalRows)));
+
+        // newRows > mTotalRows only happens for the alternate screen, which has no history:
         if (newColumns == mColumns && newRows <= mTotalRows) {
             // Fast resize where just the rows changed.
             int shiftDownOfTopRow = mScreenRows - newRows;
@@ -178,31 +563,52 @@ public final class TerminalBuffer {
                 if (shiftDownOfTopRow != actualShift) {
                     // The new lines revealed by the resizing are not all from the transcript. Blank the below ones.
                     for (int i = 0; i < actualShift - shiftDownOfTopRow; i++)
-                        allocateFullLineIfNecessary((mScreenFirstRow + mScreenRows + i) % mTotalRows).clear(currentStyle);
+                        getLineForWriting((mScreenFirstRow + mScreenRows + i) % mTotalRows).clear(currentStyle);
                     shiftDownOfTopRow = actualShift;
                 }
             }
             mScreenFirstRow += shiftDownOfTopRow;
             mScreenFirstRow = (mScreenFirstRow < 0) ? (mScreenFirstRow + mTotalRows) : (mScreenFirstRow % mTotalRows);
-            mTotalRows = newTotalRows;
+            // The circular buffer of the alternate screen just holds the screen:
+            if (altScreen) mTotalRows = newTotalRows;
             mActiveTranscriptRows = altScreen ? 0 : Math.max(0, mActiveTranscriptRows + shiftDownOfTopRow);
             cursor[1] -= shiftDownOfTopRow;
             mScreenRows = newRows;
+            // Rows on the screen are never packed, so unpack those revealed from the transcript:
+            if (shiftDownOfTopRow < 0) {
+                for (int row = 0; row < -shiftDownOfTopRow && row < mScreenRows; row++)
+                    allocateFullLineIfNecessary(externalToInternalRow(row));
+            }
         } else {
             // Copy away old state and update new:
             TerminalRow[] oldLines = mLines;
-            mLines = new TerminalRow[newTotalRows];
-            for (int i = 0; i < newTotalRows; i++)
-                mLines[i] = new TerminalRow(newColumns, currentStyle);
+            final PackedTranscript oldPackedTranscript = mPackedTranscript;
+            final long[] oldPackedRowPositions = mPackedRowPositions;
+            final TerminalRow unpackedOldLine = (oldPackedTranscript == null) ? null : new TerminalRow(mColumns, 0);
+            mPackedTranscript = null;
+            mPackedRowPositions = null;
+            mPackedRowSignatures = null;
+            Arrays.fill(mUnpackedRows, null);
+            Arrays.fill(mUnpackedRowPositions, -1);
+            // Start with room for as many rows as before, growing as needed while copying. The maximum may be less than
+            // the new screen, which is allocated below and always needs to fit:
+            final int totalRows = Math.max(newRows, Math.min(newTotalRows, mTotalRows));
+            mLines = new TerminalRow[totalRows];
 
             final int oldActiveTranscriptRows = mActiveTranscriptRows;
             final int oldScreenFirstRow = mScreenFirstRow;
             final int oldScreenRows = mScreenRows;
             final int oldTotalRows = mTotalRows;
-            mTotalRows = newTotalRows;
+            mTotalRows = totalRows;
             mScreenRows = newRows;
             mActiveTranscriptRows = mScreenFirstRow = 0;
             mColumns = newColumns;
+            // Only allocate the screen. The rows scrolled into the history while copying are allocated as they are
+            // exposed by scrollDownOneLine(), so the rest of the circular buffer stays unallocated as after construction:
+            for (int i = 0; i < newRows; i++) {
+                mLines[i] = new TerminalRow(newColumns, currentStyle);
+                mLines[i].mVersion = mVersion;
+            }
 
             int newCursorRow = -1;
             int newCursorColumn = -1;
@@ -223,6 +629,10 @@ public final class TerminalBuffer {
                 internalOldRow = (internalOldRow < 0) ? (oldTotalRows + internalOldRow) : (internalOldRow % oldTotalRows);
 
                 TerminalRow oldLine = oldLines[internalOldRow];
+                if (oldLine == null && oldPackedRowPositions != null && oldPackedRowPositions[internalOldRow] >= 0) {
+                    oldLine = unpackedOldLine;
+                    oldPackedTranscript.unpack(oldPackedRowPositions[internalOldRow], oldLine);
+                }
                 boolean cursorAtThisRow = externalOldRow == oldCursorRow;
                 // The cursor may only be on a non-null line, which we should not skip:
                 if (oldLine == null || (!(!newCursorPlaced && cursorAtThisRow)) && oldLine.isBlank()) {
@@ -254,41 +664,73 @@ public final class TerminalBuffer {
                             lastNonSpaceIndex = i + 1;
                 }
 
-                int currentOldCol = 0;
-                long styleAtCol = 0;
-                for (int i = 0; i < lastNonSpaceIndex; i++) {
-                    // Note that looping over java character, not cells.
-                    char c = oldLine.mText[i];
-                    int codePoint = (Character.isHighSurrogate(c)) ? Character.toCodePoint(c, oldLine.mText[++i]) : c;
-                    int displayWidth = WcWidth.width(codePoint);
-                    // Use the last style if this is a zero-width character:
-                    if (displayWidth > 0) styleAtCol = oldLine.getStyle(currentOldCol);
-
-                    // Line wrap as necessary:
-                    if (currentOutputExternalColumn + displayWidth > mColumns) {
-                        setLineWrap(currentOutputExternalRow);
-                        if (currentOutputExternalRow == mScreenRows - 1) {
-                            if (newCursorPlaced) newCursorRow--;
-                            scrollDownOneLine(0, mScreenRows, currentStyle);
-                        } else {
-                            currentOutputExternalRow++;
+                if (!oldLine.mHasNonOneWidthOrSurrogateChars) {
+                    // Each char occupies one column, so copy as much as fits on each new line at once instead of char by
+                    // char:
+                    int endOldCol = lastNonSpaceIndex;
+                    if (justToCursor && oldCursorColumn >= 0 && oldCursorColumn < endOldCol) endOldCol = oldCursorColumn + 1;
+                    for (int oldCol = 0; oldCol < endOldCol; ) {
+                        // Line wrap as necessary:
+                        if (currentOutputExternalColumn >= mColumns) {
+                            setLineWrap(currentOutputExternalRow);
+                            if (currentOutputExternalRow == mScreenRows - 1) {
+                                if (newCursorPlaced) newCursorRow--;
+                                scrollDownOneLine(0, mScreenRows, currentStyle);
+                            } else {
+                                currentOutputExternalRow++;
+                            }
+                            currentOutputExternalColumn = 0;
                         }
-                        currentOutputExternalColumn = 0;
-                    }
 
-                    int offsetDueToCombiningChar = ((displayWidth <= 0 && currentOutputExternalColumn > 0) ? 1 : 0);
-                    int outputColumn = currentOutputExternalColumn - offsetDueToCombiningChar;
-                    setChar(outputColumn, currentOutputExternalRow, codePoint, styleAtCol);
+                        final int count = Math.min(endOldCol - oldCol, mColumns - currentOutputExternalColumn);
+                        getLineForWriting(externalToInternalRow(currentOutputExternalRow))
+                            .copyInterval(oldLine, oldCol, oldCol + count, currentOutputExternalColumn);
 
-                    if (displayWidth > 0) {
-                        if (oldCursorRow == externalOldRow && oldCursorColumn == currentOldCol) {
-                            newCursorColumn = currentOutputExternalColumn;
+                        if (cursorAtThisRow && oldCursorColumn >= oldCol && oldCursorColumn < oldCol + count) {
+                            newCursorColumn = currentOutputExternalColumn + oldCursorColumn - oldCol;
                             newCursorRow = currentOutputExternalRow;
                             newCursorPlaced = true;
                         }
-                        currentOldCol += displayWidth;
-                        currentOutputExternalColumn += displayWidth;
-                        if (justToCursor && newCursorPlaced) break;
+                        oldCol += count;
+                        currentOutputExternalColumn += count;
+                    }
+                } else {
+                    int currentOldCol = 0;
+                    long styleAtCol = 0;
+                    for (int i = 0; i < lastNonSpaceIndex; i++) {
+                        // Note that looping over java character, not cells.
+                        char c = oldLine.mText[i];
+                        int codePoint = (Character.isHighSurrogate(c)) ? Character.toCodePoint(c, oldLine.mText[++i]) : c;
+                        int displayWidth = WcWidth.width(codePoint);
+                        // Use the last style if this is a zero-width character:
+                        if (displayWidth > 0) styleAtCol = oldLine.getStyle(currentOldCol);
+
+                        // Line wrap as necessary:
+                        if (currentOutputExternalColumn + displayWidth > mColumns) {
+                            setLineWrap(currentOutputExternalRow);
+                            if (currentOutputExternalRow == mScreenRows - 1) {
+                                if (newCursorPlaced) newCursorRow--;
+                                scrollDownOneLine(0, mScreenRows, currentStyle);
+                            } else {
+                                currentOutputExternalRow++;
+                            }
+                            currentOutputExternalColumn = 0;
+                        }
+
+                        int offsetDueToCombiningChar = ((displayWidth <= 0 && currentOutputExternalColumn > 0) ? 1 : 0);
+                        int outputColumn = currentOutputExternalColumn - offsetDueToCombiningChar;
+                        setChar(outputColumn, currentOutputExternalRow, codePoint, styleAtCol);
+
+                        if (displayWidth > 0) {
+                            if (oldCursorRow == externalOldRow && oldCursorColumn == currentOldCol) {
+                                newCursorColumn = currentOutputExternalColumn;
+                                newCursorRow = currentOutputExternalRow;
+                                newCursorPlaced = true;
+                            }
+                            currentOldCol += displayWidth;
+                            currentOutputExternalColumn += displayWidth;
+                            if (justToCursor && newCursorPlaced) break;
+                        }
                     }
                 }
                 // Old row has been copied. Check if we need to insert newline if old line was not wrapping:
@@ -312,24 +754,38 @@ public final class TerminalBuffer {
     }
 
     /**
-     * Block copy lines and associated metadata from one location to another in the circular buffer, taking wraparound
-     * into account.
+     * Move lines and associated metadata down in the circular buffer, taking wraparound into account. The lines below
+     * the block, which are overwritten, are put back above it.
      *
-     * @param srcInternal The first line to be copied.
-     * @param len         The number of lines to be copied.
+     * @param srcInternal The first line to be moved.
+     * @param len         The number of lines to be moved.
+     * @param shift       The number of lines to move them down.
      */
-    private void blockCopyLinesDown(int srcInternal, int len) {
+    private void blockCopyLinesDown(int srcInternal, int len, int shift) {
         if (len == 0) return;
-        int totalRows = mTotalRows;
+        // Rotate by reversing the block and the lines below it, and then the whole.
+        reverseInternalLines(srcInternal, len);
+        reverseInternalLines(srcInternal + len, shift);
+        reverseInternalLines(srcInternal, len + shift);
+    }
 
-        int start = len - 1;
-        // Save away line to be overwritten:
-        TerminalRow lineToBeOverWritten = mLines[(srcInternal + start + 1) % totalRows];
-        // Do the copy from bottom to top.
-        for (int i = start; i >= 0; --i)
-            mLines[(srcInternal + i + 1) % totalRows] = mLines[(srcInternal + i) % totalRows];
-        // Put back overwritten line, now above the block:
-        mLines[(srcInternal) % totalRows] = lineToBeOverWritten;
+    private void reverseInternalLines(int startInternal, int len) {
+        final int totalRows = mTotalRows;
+        for (int low = startInternal, high = startInternal + len - 1; low < high; low++, high--) {
+            final TerminalRow lowRow = mLines[low % totalRows];
+            mLines[low % totalRows] = mLines[high % totalRows];
+            mLines[high % totalRows] = lowRow;
+            if (mPackedRowPositions != null) {
+                final long lowPosition = mPackedRowPositions[low % totalRows];
+                mPackedRowPositions[low % totalRows] = mPackedRowPositions[high % totalRows];
+                mPackedRowPositions[high % totalRows] = lowPosition;
+                for (int i = 0; i < 2; i++) {
+                    final long lowSignature = mPackedRowSignatures[2 * (low % totalRows) + i];
+                    mPackedRowSignatures[2 * (low % totalRows) + i] = mPackedRowSignatures[2 * (high % totalRows) + i];
+                    mPackedRowSignatures[2 * (high % totalRows) + i] = lowSignature;
+                }
+            }
+        }
     }
 
     /**
@@ -340,26 +796,125 @@ public final class TerminalBuffer {
      * @param style        the style for the newly exposed line.
      */
     public void scrollDownOneLine(int topMargin, int bottomMargin, long style) {
+        scrollDown(1, topMargin, bottomMargin, style);
+    }
+
+    /**
+     * Scroll the screen down a number of lines in one step, with the same result as that many calls to
+     * {@link #scrollDownOneLine(int, int, long)}. The lines scrolled off the top of the region go into the history.
+     *
+     * @param lines        The number of lines to scroll.
+     * @param topMargin    First line that is scrolled.
+     * @param bottomMargin One line after the last line that is scrolled.
+     * @param style        the style for the newly exposed lines.
+     */
+    public void scrollDown(int lines, int topMargin, int bottomMargin, long style) {
         if (topMargin > bottomMargin - 1 || topMargin < 0 || bottomMargin > mScreenRows)
             throw new IllegalArgumentException("topMargin=" + topMargin + ", bottomMargin=" + bottomMargin + ", mScreenRows=" + mScreenRows);
 
-        // Copy the fixed topMargin lines one line down so that they remain on screen in same position:
-        blockCopyLinesDown(mScreenFirstRow, topMargin);
-        // Copy the fixed mScreenRows-bottomMargin lines one line down so that they remain on screen in same
-        // position:
-        blockCopyLinesDown(externalToInternalRow(bottomMargin), mScreenRows - bottomMargin);
-
-        // Update the screen location in the ring buffer:
-        mScreenFirstRow = (mScreenFirstRow + 1) % mTotalRows;
-        // Note that the history has grown if not already full:
-        if (mActiveTranscriptRows < mTotalRows - mScreenRows) mActiveTranscriptRows++;
-
-        // Blank the newly revealed line above the bottom margin:
-        int blankRow = externalToInternalRow(bottomMargin - 1);
-        if (mLines[blankRow] == null) {
-            mLines[blankRow] = new TerminalRow(mColumns, style);
-        } else {
-            mLines[blankRow].clear(style);
+        // Grow the circular buffer if below its maximum size instead of overwriting the oldest rows of the history:
+        ensureTranscriptCapacity(mActiveTranscriptRows + lines);
+
+        final int regionRows = bottomMargin - topMargin;
+        final int fixedRowsBelow = mScreenRows - bottomMargin;
+        // The fixed lines below the region are moved into the lines following the screen, which must not wrap around
+        // into the screen itself:
+        final int maxStep = (fixedRowsBelow == 0) ? regionRows : Math.max(1, Math.min(regionRows, mTotalRows - mScreenRows));
+        while (lines > 0) {
+            final int step = Math.min(lines, maxStep);
+            lines -= step;
+
+            // The oldest rows of a full history are overwritten, so move them to the scrollback file first:
+            if (mScrollbackFile != null) {
+                final int evictedRows = Math.min(mActiveTranscriptRows, mActiveTranscriptRows + step - (mTotalRows - mScreenRows));
+                for (int i = 0; i < evictedRows; i++)
+                    evictRow(externalToInternalRow(i - mActiveTranscriptRows));
+            }
+
+            // Move the fixed topMargin lines down so that they remain on screen in same position, with the lines
+            // scrolled off the top of the region going into the history above them:
+            blockCopyLinesDown(mScreenFirstRow, topMargin, step);
+            // Move the fixed mScreenRows-bottomMargin lines down so that they remain on screen in same position:
+            blockCopyLinesDown(externalToInternalRow(bottomMargin), fixedRowsBelow, step);
+
+            // Update the screen location in the ring buffer:
+            mScreenFirstRow = (mScreenFirstRow + step) % mTotalRows;
+            // Note that the history has grown if not already full:
+            if (mActiveTranscriptRows < mTotalRows - mScreenRows)
+                mActiveTranscriptRows = Math.min(mActiveTranscriptRows + step, mTotalRows - mScreenRows);
+
+            // Blank the newly revealed lines above the bottom margin. The lines just scrolled into the history are compacted
+            // and hand over their style arrays to them, while the lines scrolled past the unpacked part of the history are
+            // packed and hand over their row objects:
+            final int historyRows = mTotalRows - mScreenRows;
+            for (int i = 0; i < step; i++) {
+                long[] styles = null;
+                if (i < historyRows) {
+                    final int historyRow = (mScreenFirstRow - 1 - i + mTotalRows) % mTotalRows;
+                    if (mLines[historyRow] != null) styles = getLineForWriting(historyRow).compactStyles();
+                }
+                // Pack the oldest row first, so that rows are packed in the order they are discarded:
+                final int rowToPack = UNPACKED_TRANSCRIPT_ROWS + step - i;
+                final TerminalRow packedLine = (rowToPack <= mActiveTranscriptRows) ? packRow(externalToInternalRow(-rowToPack)) : null;
+                final int blankRow = externalToInternalRow(bottomMargin - 1 - i);
+                if (mLines[blankRow] == null) {
+                    // The object of the packed row is not reused if it may still be shared:
+                    final boolean reusable = packedLine != null && packedLine.mVersion == mVersion;
+                    final TerminalRow line = reusable ? packedLine : new TerminalRow(mColumns, style);
+                    line.mVersion = mVersion;
+                    // Clearing a row keeps its line wrap flag, so keep that of a packed row which was here.
+                    line.mLineWrap = isPacked(blankRow) && mPackedTranscript.isLineWrap(mPackedRowPositions[blankRow]);
+                    mLines[blankRow] = line;
+                }
+                getLineForWriting(blankRow).clear(style, styles);
+            }
+            // Discarding a packed row frees everything packed before it, so discard the oldest of the blanked rows first:
+            for (int i = step - 1; i >= 0; i--)
+                discardPackedRow(externalToInternalRow(bottomMargin - 1 - i));
+        }
+    }
+
+    /**
+     * Scroll the full width lines of a region of the screen by rotating the rows in {@link #mLines} instead of copying
+     * their cells. The lines scrolled out of the region are reused for the lines exposed at the other end, which are
+     * cleared. Line wrap flags stay at their screen position, as they do when copying the cells with
+     * {@link #blockCopy(int, int, int, int, int, int)}. Nothing is put into the scroll history.
+     *
+     * @param topMargin    First line that is scrolled.
+     * @param bottomMargin One line after the last line that is scrolled.
+     * @param lines        The number of lines to scroll, down (towards the bottom margin) if positive and up if negative.
+     * @param style        the style for the newly exposed lines.
+     */
+    public void scrollLines(int topMargin, int bottomMargin, int lines, long style) {
+        if (topMargin < 0 || topMargin > bottomMargin || bottomMargin > mScreenRows)
+            throw new IllegalArgumentException("topMargin=" + topMargin + ", bottomMargin=" + bottomMargin + ", mScreenRows=" + mScreenRows);
+        final int regionRows = bottomMargin - topMargin;
+        if (lines > regionRows) lines = regionRows;
+        else if (lines < -regionRows) lines = -regionRows;
+        if (lines == 0) return;
+
+        // Rotate the region by reversing the two parts and then the whole.
+        final int split = (lines > 0) ? (bottomMargin - lines) : (topMargin - lines);
+        reverseLines(topMargin, split);
+        reverseLines(split, bottomMargin);
+        reverseLines(topMargin, bottomMargin);
+
+        final int exposedStart = (lines > 0) ? topMargin : (bottomMargin + lines);
+        final int exposedEnd = (lines > 0) ? (topMargin + lines) : bottomMargin;
+        for (int row = exposedStart; row < exposedEnd; row++)
+            getLineForWriting(externalToInternalRow(row)).clear(style);
+    }
+
+    /** Reverse the order of the screen lines from start (inclusive) to end (exclusive), leaving line wrap flags in place. */
+    private void reverseLines(int start, int end) {
+        for (int low = start, high = end - 1; low < high; low++, high--) {
+            final int lowInternal = externalToInternalRow(low), highInternal = externalToInternalRow(high);
+            final TerminalRow lowRow = getLineForWriting(lowInternal), highRow = getLineForWriting(highInternal);
+            final boolean lowLineWrap = lowRow.mLineWrap;
+            lowRow.mLineWrap = highRow.mLineWrap;
+            highRow.mLineWrap = lowLineWrap;
+            mLines[lowInternal] = highRow;
+            mLines[highInternal] = lowRow;
         }
     }
 
@@ -383,7 +938,7 @@ public final class TerminalBuffer {
         for (int y = 0; y < h; y++) {
             int y2 = copyingUp ? y : (h - (y + 1));
             TerminalRow sourceRow = allocateFullLineIfNecessary(externalToInternalRow(sy + y2));
-            allocateFullLineIfNecessary(externalToInternalRow(dy + y2)).copyInterval(sourceRow, sx, sx + w, dx);
+            getLineForWriting(externalToInternalRow(dy + y2)).copyInterval(sourceRow, sx, sx + w, dx);
         }
     }
 
@@ -397,31 +952,173 @@ public final class TerminalBuffer {
             throw new IllegalArgumentException(
                 "Illegal arguments! blockSet(" + sx + ", " + sy + ", " + w + ", " + h + ", " + val + ", " + mColumns + ", " + mScreenRows + ")");
         }
+        if (w == 0) return;
         for (int y = 0; y < h; y++)
-            for (int x = 0; x < w; x++)
-                setChar(sx + x, sy + y, val, style);
+            getLineForWriting(externalToInternalRow(sy + y)).fill(sx, sx + w, val, style);
     }
 
     public TerminalRow allocateFullLineIfNecessary(int row) {
-        return (mLines[row] == null) ? (mLines[row] = new TerminalRow(mColumns, 0)) : mLines[row];
+        if (mLines[row] != null) return mLines[row];
+        final TerminalRow line = new TerminalRow(mColumns, 0);
+        line.mVersion = mVersion;
+        if (isPacked(row)) {
+            mPackedTranscript.unpack(mPackedRowPositions[row], line);
+            mPackedRowPositions[row] = -1;
+        }
+        return mLines[row] = line;
+    }
+
+    /**
+     * Get a row for changing it, allocated as by {@link #allocateFullLineIfNecessary(int)}. A row which may have been
+     * shared by {@link #shareRows(int)} is first replaced with a copy, so that readers of the shared row never see it
+     * change.
+     */
+    private TerminalRow getLineForWriting(int row) {
+        final TerminalRow line = allocateFullLineIfNecessary(row);
+        if (line.mVersion == mVersion) return line;
+        final TerminalRow copy = new TerminalRow(line);
+        copy.mVersion = mVersion;
+        return mLines[row] = copy;
+    }
+
+    /**
+     * Get the rows from the specified row to the bottom of the screen for reading on another thread, such as for
+     * drawing them while output is being emulated. The unpacked rows are shared instead of copied, and the version of
+     * the buffer is incremented so that each of them is copied before it is next changed. The rows unpacked from the
+     * transcript or the scrollback file into the cache of {@link #getLineForReading(int)} are copied instead, as the
+     * cached objects get reused.
+     *
+     * @param firstRow the first row in the external coordinate system, from -{@link #getActiveTranscriptRows()} to 0.
+     */
+    TerminalRow[] shareRows(int firstRow) {
+        final TerminalRow[] rows = new TerminalRow[mScreenRows - firstRow];
+        for (int i = 0; i < rows.length; i++) {
+            final int row = externalToInternalRow(firstRow + i);
+            final boolean unpacked = row < mTotalRows && (mLines[row] != null || !isPacked(row));
+            rows[i] = unpacked ? allocateFullLineIfNecessary(row) : new TerminalRow(getLineForReading(row));
+        }
+        mVersion++;
+        return rows;
+    }
+
+    /**
+     * Get a row for reading without unpacking it for good if it has been packed, as when scrolling back through the
+     * history or copying it. A packed row or a row of the scrollback file is unpacked into a cache, so the returned
+     * object must not be modified and is only valid until {@value #UNPACKED_ROW_CACHE_SIZE} further rows have been read.
+     *
+     * @param row the row in the internal coordinate system, see {@link #externalToInternalRow(int)}.
+     */
+    public TerminalRow getLineForReading(int row) {
+        final long position;
+        if (row >= mTotalRows) {
+            position = -2 - (row - mTotalRows);
+        } else if (mLines[row] != null || !isPacked(row)) {
+            return allocateFullLineIfNecessary(row);
+        } else {
+            position = mPackedRowPositions[row];
+        }
+        final int cacheIndex = row % UNPACKED_ROW_CACHE_SIZE;
+        TerminalRow line = mUnpackedRows[cacheIndex];
+        if (line == null) line = mUnpackedRows[cacheIndex] = new TerminalRow(mColumns, 0);
+        if (mUnpackedRowPositions[cacheIndex] != position) {
+            if (position >= 0) {
+                mPackedTranscript.unpack(position, line);
+            } else {
+                mScrollbackFile.read(row - mTotalRows, mScrollbackRow);
+                mScrollbackRow.unpack(line);
+            }
+            mUnpackedRowPositions[cacheIndex] = position;
+        }
+        return line;
+    }
+
+    /** Append a row of the transcript which is about to be overwritten to {@link #mScrollbackFile}. */
+    private void evictRow(int row) {
+        if (isPacked(row)) {
+            mPackedTranscript.read(mPackedRowPositions[row], mScrollbackRow);
+            mSignature[0] = mPackedRowSignatures[2 * row];
+            mSignature[1] = mPackedRowSignatures[2 * row + 1];
+        } else {
+            final TerminalRow line = allocateFullLineIfNecessary(row);
+            mScrollbackRow.pack(line);
+            SearchQuery.signature(line.mText, line.getSpaceUsed(), mSignature);
+        }
+        if (mScrollbackFile.append(mScrollbackRow, mSignature[0], mSignature[1])) mScrollbackRows++;
+    }
+
+    private boolean isPacked(int row) {
+        return mPackedRowPositions != null && mPackedRowPositions[row] >= 0;
+    }
+
+    /** Pack a row and return its no longer used row object, or null if already packed. */
+    private TerminalRow packRow(int row) {
+        final TerminalRow line = mLines[row];
+        if (line == null) return null;
+        if (mPackedTranscript == null) {
+            mPackedTranscript = new PackedTranscript();
+            mPackedRowPositions = new long[mLines.length];
+            mPackedRowSignatures = new long[2 * mLines.length];
+            Arrays.fill(mPackedRowPositions, -1);
+        }
+        mPackedRowPositions[row] = mPackedTranscript.pack(line);
+        SearchQuery.signature(line.mText, line.getSpaceUsed(), mSignature);
+        mPackedRowSignatures[2 * row] = mSignature[0];
+        mPackedRowSignatures[2 * row + 1] = mSignature[1];
+        mLines[row] = null;
+        return line;
+    }
+
+    /** Drop a row which is no longer part of the transcript if it has been packed. */
+    private void discardPackedRow(int row) {
+        if (!isPacked(row)) return;
+        // Rows are discarded in the order they were packed, so everything packed before this row is no longer used.
+        mPackedTranscript.discardBefore(mPackedRowPositions[row]);
+        mPackedRowPositions[row] = -1;
     }
 
     public void setChar(int column, int row, int codePoint, long style) {
         if (row >= mScreenRows || column >= mColumns)
             throw new IllegalArgumentException("row=" + row + ", column=" + column + ", mScreenRows=" + mScreenRows + ", mColumns=" + mColumns);
         row = externalToInternalRow(row);
-        allocateFullLineIfNecessary(row).setChar(column, codePoint, style);
+        getLineForWriting(row).setChar(column, codePoint, style);
+    }
+
+    /** Set a run of printable ASCII bytes, each occupying one column, starting at the specified column. */
+    public void setChars(int column, int row, byte[] ascii, int offset, int length, long style) {
+        if (row >= mScreenRows || column + length > mColumns)
+            throw new IllegalArgumentException("row=" + row + ", column=" + column + ", length=" + length + ", mScreenRows=" + mScreenRows + ", mColumns=" + mColumns);
+        row = externalToInternalRow(row);
+        getLineForWriting(row).setChars(column, ascii, offset, length, style);
+    }
+
+    /** Insert blank cells at a column, shifting the cells up to endColumn right. See {@link TerminalRow#insertCells}. */
+    public void insertCells(int column, int row, int endColumn, int count, long style) {
+        if (row < 0 || row >= mScreenRows || column < 0 || column > endColumn || endColumn > mColumns)
+            throw new IllegalArgumentException("row=" + row + ", column=" + column + ", endColumn=" + endColumn + ", mScreenRows=" + mScreenRows + ", mColumns=" + mColumns);
+        getLineForWriting(externalToInternalRow(row)).insertCells(column, endColumn, count, style);
+    }
+
+    /** Delete the cells at a column, shifting the cells up to endColumn left. See {@link TerminalRow#deleteCells}. */
+    public void deleteCells(int column, int row, int endColumn, int count, long style) {
+        if (row < 0 || row >= mScreenRows || column < 0 || column > endColumn || endColumn > mColumns)
+            throw new IllegalArgumentException("row=" + row + ", column=" + column + ", endColumn=" + endColumn + ", mScreenRows=" + mScreenRows + ", mColumns=" + mColumns);
+        getLineForWriting(externalToInternalRow(row)).deleteCells(column, endColumn, count, style);
+    }
+
+    /** See {@link TerminalRow#getCombiningCodePointCount(int)}. */
+    public int getCombiningCodePointCount(int column, int row) {
+        return allocateFullLineIfNecessary(externalToInternalRow(row)).getCombiningCodePointCount(column);
     }
 
     public long getStyleAt(int externalRow, int column) {
-        return allocateFullLineIfNecessary(externalToInternalRow(externalRow)).getStyle(column);
+        return getLineForReading(externalToInternalRow(externalRow)).getStyle(column);
     }
 
     /** Support for http://vt100.net/docs/vt510-rm/DECCARA and http://vt100.net/docs/vt510-rm/DECCARA */
     public void setOrClearEffect(int bits, boolean setOrClear, boolean reverse, boolean rectangular, int leftMargin, int rightMargin, int top, int left,
                                  int bottom, int right) {
         for (int y = top; y < bottom; y++) {
-            TerminalRow line = mLines[externalToInternalRow(y)];
+            TerminalRow line = getLineForWriting(externalToInternalRow(y));
             int startOfLine = (rectangular || y == top) ? left : leftMargin;
             int endOfLine = (rectangular || y + 1 == bottom) ? right : rightMargin;
             for (int x = startOfLine; x < endOfLine; x++) {
@@ -437,7 +1134,7 @@ public final class TerminalBuffer {
                 } else {
                     effect &= ~bits;
                 }
-                line.mStyle[x] = TextStyle.encode(foreColor, backColor, effect);
+                line.setStyle(x, TextStyle.encode(foreColor, backColor, effect));
             }
         }
     }
@@ -449,7 +1146,69 @@ public final class TerminalBuffer {
         } else {
             Arrays.fill(mLines, mScreenFirstRow - mActiveTranscriptRows, mScreenFirstRow, null);
         }
+        if (mPackedTranscript != null) {
+            // Only transcript rows are packed.
+            Arrays.fill(mPackedRowPositions, -1);
+            mPackedTranscript.clear();
+        }
+        if (mScrollbackFile != null) {
+            mScrollbackFile.clear();
+            mScrollbackRows = 0;
+            Arrays.fill(mUnpackedRowPositions, -1);
+        }
         mActiveTranscriptRows = 0;
     }
 
+
+    /** Encodes appended text as UTF-8 into a buffer which is written to a channel when full. */
+    private static final class ChannelWriter implements Appendable {
+
+        private final WritableByteChannel mChannel;
+        /** Unpaired surrogates are replaced with '?' as by {@link String#getBytes(java.nio.charset.Charset)}. */
+        private final CharsetEncoder mEncoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final ByteBuffer mBuffer;
+
+        ChannelWriter(WritableByteChannel channel, int bufferSize) {
+            mChannel = channel;
+            // Room for the longest encoding of a code point.
+            mBuffer = ByteBuffer.allocate(Math.max(bufferSize, 4));
+        }
+
+        @Override
+        public Appendable append(CharSequence text) throws IOException {
+            final CharBuffer chars = (text instanceof CharBuffer) ? (CharBuffer) text : CharBuffer.wrap(text);
+            mEncoder.reset();
+            while (mEncoder.encode(chars, mBuffer, true).isOverflow()) write();
+            while (mEncoder.flush(mBuffer).isOverflow()) write();
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence text, int start, int end) throws IOException {
+            return append(CharBuffer.wrap(text, start, end));
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            if (c < 0x80) {
+                if (!mBuffer.hasRemaining()) write();
+                mBuffer.put((byte) c);
+                return this;
+            }
+            return append(CharBuffer.wrap(new char[]{c}));
+        }
+
+        /** Write all of the buffered bytes to the channel. */
+        void flush() throws IOException {
+            write();
+        }
+
+        private void write() throws IOException {
+            mBuffer.flip();
+            while (mBuffer.hasRemaining()) mChannel.write(mBuffer);
+            mBuffer.clear();
+        }
+    }
+
 }
@@ -46,6 +46,12 @@ public final class TerminalEmulator {
     /** Used for invalid data - http://en.wikipedia.org/wiki/Replacement_character#Replacement_character */
     public static final int UNICODE_REPLACEMENT_CHAR = 0xFFFD;
 
+    /**
+     * The default for {@link #setMaxCombiningCharsPerCell(int)}, the limit on non-starters in a row of the Unicode
+     * Stream-Safe Text Format - https://www.unicode.org/reports/tr15/#Stream_Safe_Text_Format
+     */
+    public static final int DEFAULT_MAX_COMBINING_CHARS_PER_CELL = 30;
+
     /** Escape processing: Not currently in an escape sequence. */
     private static final int ESC_NONE = 0;
     /** Escape processing: Have seen an ESC character - proceed to {@link #doEsc(int)} */
@@ -85,6 +91,64 @@ public final class TerminalEmulator {
     /** Escape processing: CSI ! */
     private static final int ESC_CSI_EXCLAMATION = 19;
 
+    /** The number of escape states, which all are below this value. */
+    private static final int NUM_ESCAPE_STATES = 20;
+
+    /** Parse action: Output a graphic character with {@link #emitCodePoint(int)}. */
+    private static final byte PARSE_ACTION_PRINT = 0;
+    /** Parse action: Collect a parameter digit or separator with {@link #parseArg(int)}. */
+    private static final byte PARSE_ACTION_PARAM = 1;
+    /** Parse action: Execute a C0 control character with {@link #executeControlCharacter(int)}. */
+    private static final byte PARSE_ACTION_EXECUTE = 2;
+    /** Parse action: Let the handler of the current escape state act with {@link #doEscapeState(int)}. */
+    private static final byte PARSE_ACTION_DISPATCH = 3;
+    /** Parse action: Do nothing. */
+    private static final byte PARSE_ACTION_IGNORE = 4;
+
+    /**
+     * The parse action for each ASCII code point in each escape state, indexed by {@code (escapeState << 7) | codePoint}.
+     * Modelled after the DEC parser at http://vt100.net/emu/dec_ansi_parser, but the actions are the existing handlers.
+     * Non-ASCII code points are printed when not in an escape sequence and dispatched otherwise.
+     */
+    private static final byte[] PARSE_ACTIONS = new byte[NUM_ESCAPE_STATES << 7];
+
+    static {
+        for (int state = 0; state < NUM_ESCAPE_STATES; state++) {
+            final boolean parsingArgs = state == ESC_CSI || state == ESC_CSI_QUESTIONMARK || state == ESC_CSI_BIGGERTHAN;
+            for (int b = 0; b < 128; b++) {
+                final byte action;
+                switch (b) {
+                    case 0:
+                        action = PARSE_ACTION_IGNORE;
+                        break;
+                    case 7:
+                    case 8:
+                    case 9:
+                    case 10:
+                    case 11:
+                    case 12:
+                    case 13:
+                    case 14:
+                    case 15:
+                    case 24:
+                    case 26:
+                    case 27:
+                        action = PARSE_ACTION_EXECUTE;
+                        break;
+                    default:
+                        if (state == ESC_NONE) {
+                            action = (b >= 32) ? PARSE_ACTION_PRINT : PARSE_ACTION_IGNORE;
+                        } else if (parsingArgs && ((b >= '0' && b <= '9') || b == ';')) {
+                            action = PARSE_ACTION_PARAM;
+                        } else {
+                            action = PARSE_ACTION_DISPATCH;
+                        }
+                }
+                PARSE_ACTIONS[(state << 7) | b] = action;
+            }
+        }
+    }
+
     /** The number of parameter arguments. This name comes from the ANSI standard for terminal escape codes. */
     private static final int MAX_ESCAPE_PARAMETERS = 16;
 
@@ -139,7 +203,7 @@ public final class TerminalEmulator {
     public int mRows, mColumns;
 
     /** The normal screen buffer. Stores the characters that appear on the screen of the emulated terminal. */
-    private final TerminalBuffer mMainBuffer;
+    private TerminalBuffer mMainBuffer;
     /**
      * The alternate screen buffer, exactly as large as the display and contains no additional saved lines (so that when
      * the alternate screen buffer is active, you cannot scroll back to view saved lines).
@@ -221,6 +285,11 @@ public final class TerminalEmulator {
      */
     private int mScrollCounter = 0;
 
+    /** The maximum number of combining characters stored in a cell. See {@link #setMaxCombiningCharsPerCell(int)}. */
+    private int mMaxCombiningCharsPerCell = DEFAULT_MAX_COMBINING_CHARS_PER_CELL;
+    /** The number of combining characters dropped due to {@link #mMaxCombiningCharsPerCell}. */
+    private int mDroppedCombiningChars = 0;
+
     private byte mUtf8ToFollow, mUtf8Index;
     private final byte[] mUtf8InputBuffer = new byte[4];
     private int mLastEmittedCodePoint = -1;
@@ -293,6 +362,20 @@ public final class TerminalEmulator {
         return mScreen;
     }
 
+    /** Keep the rows which no longer fit in the transcript of the main buffer in a file, see {@link ScrollbackFile}. */
+    void setScrollbackFile(ScrollbackFile scrollbackFile) {
+        mMainBuffer.setScrollbackFile(scrollbackFile);
+    }
+
+    /**
+     * Change the number of rows of the main buffer including the screen, as passed to the constructor. The buffer only
+     * takes up room for the rows in use. The oldest rows which no longer fit are dropped, or moved to the scrollback file if
+     * there is one, without reflowing the rest.
+     */
+    public void setTranscriptRows(int transcriptRows) {
+        mMainBuffer.setMaxTotalRows(transcriptRows);
+    }
+
     public boolean isAlternateBufferActive() {
         return mScreen == mAltBuffer;
     }
@@ -328,6 +411,54 @@ public final class TerminalEmulator {
             throw new IllegalArgumentException("rows=" + rows + ", columns=" + columns);
         }
 
+        setSize(columns, rows);
+        resizeScreen();
+    }
+
+    /**
+     * Start a resize which reflows the main screen buffer for a different number of columns, or return null if the main
+     * buffer is not reflowed, in which case {@link #resize(int, int)} is cheap. The returned reflow is to be run on
+     * another thread and then passed to {@link #finishResize(Reflow)}. Until then the emulator may be read and drawn but
+     * not modified, such as by appending output to it.
+     */
+    Reflow startResize(int columns, int rows) {
+        if (columns == mColumns || mScreen != mMainBuffer) return null;
+        if (columns < 2 || rows < 2) throw new IllegalArgumentException("rows=" + rows + ", columns=" + columns);
+        return new Reflow(columns, rows, new TerminalBuffer(mMainBuffer), new int[]{mCursorCol, mCursorRow}, getStyle());
+    }
+
+    /** Complete a resize started by {@link #startResize(int, int)} by replacing the main buffer with the reflowed copy. */
+    void finishResize(Reflow reflow) {
+        setSize(reflow.mColumns, reflow.mRows);
+        mScreen = mMainBuffer = reflow.mBuffer;
+        mCursorCol = reflow.mCursor[0];
+        mCursorRow = reflow.mCursor[1];
+    }
+
+    /** A copy of the main screen buffer being reflowed for a new size, see {@link #startResize(int, int)}. */
+    static final class Reflow implements Runnable {
+        final int mColumns, mRows;
+        final TerminalBuffer mBuffer;
+        /** The cursor position, as (column, row). */
+        final int[] mCursor;
+        final long mStyle;
+
+        Reflow(int columns, int rows, TerminalBuffer buffer, int[] cursor, long style) {
+            mColumns = columns;
+            mRows = rows;
+            mBuffer = buffer;
+            mCursor = cursor;
+            mStyle = style;
+        }
+
+        @Override
+        public void run() {
+            mBuffer.resize(mColumns, mRows, mBuffer.mMaxTotalRows, mCursor, mStyle, false);
+        }
+    }
+
+    /** Update the size and the state depending on it, but not the screen buffer. */
+    private void setSize(int columns, int rows) {
         if (mRows != rows) {
             mRows = rows;
             mTopMargin = 0;
@@ -344,13 +475,11 @@ public final class TerminalEmulator {
             mLeftMargin = 0;
             mRightMargin = mColumns;
         }
-
-        resizeScreen();
     }
 
     private void resizeScreen() {
         final int[] cursor = {mCursorCol, mCursorRow};
-        int newTotalRows = (mScreen == mAltBuffer) ? mRows : mMainBuffer.mTotalRows;
+        int newTotalRows = (mScreen == mAltBuffer) ? mRows : mMainBuffer.mMaxTotalRows;
         mScreen.resize(mColumns, mRows, newTotalRows, cursor, getStyle(), isAlternateBufferActive());
         mCursorCol = cursor[0];
         mCursorRow = cursor[1];
@@ -402,8 +531,146 @@ public final class TerminalEmulator {
      * @param length the number of bytes in the array to process
      */
     public void append(byte[] buffer, int length) {
-        for (int i = 0; i < length; i++)
-            processByte(buffer[i]);
+        for (int i = 0; i < length; i++) {
+            if (isPrintableAscii(buffer[i]) && canEmitAsciiRun()) {
+                i = emitAsciiRun(buffer, i, length) - 1;
+            } else if (buffer[i] < 0 && mUtf8ToFollow == 0) {
+                i = decodeUtf8Run(buffer, i, length) - 1;
+            } else if (buffer[i] == '\n' && mUtf8ToFollow == 0 && mEscapeState == ESC_NONE) {
+                i = doLinefeedRun(buffer, i, length) - 1;
+            } else {
+                processByte(buffer[i]);
+            }
+        }
+    }
+
+    /**
+     * Process a run of line feeds, possibly mixed with carriage returns as in blank lines of "\r\n" output, so that a
+     * burst of them scrolls the screen in one step.
+     *
+     * @return the index of the first byte after the run.
+     */
+    private int doLinefeedRun(byte[] buffer, int start, int length) {
+        int lines = 0;
+        boolean carriageReturn = false;
+        int i = start;
+        for (; i < length; i++) {
+            if (buffer[i] == '\n') lines++;
+            else if (buffer[i] == '\r') carriageReturn = true;
+            else break;
+        }
+        doLinefeeds(lines);
+        if (carriageReturn) setCursorCol(mLeftMargin);
+        return i;
+    }
+
+    private static boolean isPrintableAscii(byte b) {
+        return b >= 32 && b < 127;
+    }
+
+    /**
+     * If the next printable ASCII byte may bypass {@link #processByte(byte)} and {@link #emitCodePoint(int)}. Insert
+     * mode, line drawing character sets and a pending auto wrap all need the per code point path.
+     */
+    private boolean canEmitAsciiRun() {
+        return mUtf8ToFollow == 0 && mEscapeState == ESC_NONE && !mInsertMode
+            && !(mUseLineDrawingUsesG0 ? mUseLineDrawingG0 : mUseLineDrawingG1)
+            && mCursorCol < mRightMargin
+            && !(mAboutToAutoWrap && isDecsetInternalBitSet(DECSET_BIT_AUTOWRAP));
+    }
+
+    /**
+     * Write the run of printable ASCII starting at {@code start} which fits before the right margin with one call to
+     * {@link TerminalBuffer#setChars(int, int, byte[], int, int, long)}, updating the cursor exactly as the same number
+     * of calls to {@link #emitCodePoint(int)} would.
+     *
+     * @return the index of the first byte not consumed.
+     */
+    private int emitAsciiRun(byte[] buffer, int start, int length) {
+        int end = Math.min(length, start + (mRightMargin - mCursorCol));
+        int runEnd = start + 1;
+        while (runEnd < end && isPrintableAscii(buffer[runEnd]))
+            runEnd++;
+        final int runLength = runEnd - start;
+
+        mScreen.setChars(mCursorCol, mCursorRow, buffer, start, runLength, getStyle());
+        mLastEmittedCodePoint = buffer[runEnd - 1];
+
+        final int lastColumnWritten = mCursorCol + runLength - 1;
+        if (isDecsetInternalBitSet(DECSET_BIT_AUTOWRAP)) mAboutToAutoWrap = (lastColumnWritten == mRightMargin - 1);
+        mCursorCol = Math.min(lastColumnWritten + 1, mRightMargin - 1);
+        return runEnd;
+    }
+
+    /**
+     * Decode and process the run of non-ASCII bytes starting at {@code start} directly from the input array, as long as
+     * each UTF-8 sequence is complete and well-formed. An incomplete or ill-formed sequence is left to
+     * {@link #processByte(byte)}, which carries partial sequences over to the next {@link #append(byte[], int)} call.
+     *
+     * @return the index of the first byte not consumed.
+     */
+    private int decodeUtf8Run(byte[] buffer, int start, int length) {
+        int i = start;
+        while (i < length) {
+            final int leadByte = buffer[i];
+            if (leadByte >= 0) break;
+
+            final int bytesToFollow;
+            int codePoint;
+            if ((leadByte & 0b11100000) == 0b11000000) { // 110xxxxx, a two-byte sequence.
+                bytesToFollow = 1;
+                codePoint = leadByte & 0b00011111;
+            } else if ((leadByte & 0b11110000) == 0b11100000) { // 1110xxxx, a three-byte sequence.
+                bytesToFollow = 2;
+                codePoint = leadByte & 0b00001111;
+            } else if ((leadByte & 0b11111000) == 0b11110000) { // 11110xxx, a four-byte sequence.
+                bytesToFollow = 3;
+                codePoint = leadByte & 0b00000111;
+            } else {
+                // Not a valid UTF-8 sequence start, signal invalid data:
+                processCodePoint(UNICODE_REPLACEMENT_CHAR);
+                i++;
+                continue;
+            }
+
+            if (i + bytesToFollow >= length) {
+                // Sequence continues in the next chunk.
+                processByte(buffer[i]);
+                return i + 1;
+            }
+            for (int j = 1; j <= bytesToFollow; j++) {
+                final byte continuationByte = buffer[i + j];
+                if ((continuationByte & 0b11000000) != 0b10000000) {
+                    // Ill-formed, let processByte() emit the replacement char and reprocess the successor byte.
+                    processByte(buffer[i]);
+                    return i + 1;
+                }
+                codePoint = (codePoint << 6) | (continuationByte & 0b00111111);
+            }
+            i += bytesToFollow + 1;
+            processDecodedCodePoint(codePoint, bytesToFollow + 1);
+        }
+        return i;
+    }
+
+    /** Process a code point decoded from a UTF-8 sequence of the specified length. */
+    private void processDecodedCodePoint(int codePoint, int sequenceLength) {
+        if (((codePoint <= 0b1111111) && sequenceLength > 1) || (codePoint < 0b11111111111 && sequenceLength > 2)
+            || (codePoint < 0b1111111111111111 && sequenceLength > 3)) {
+            // Overlong encoding.
+            codePoint = UNICODE_REPLACEMENT_CHAR;
+        }
+
+        if (codePoint >= 0x80 && codePoint <= 0x9F) {
+            // Sequence decoded to a C1 control character which we ignore. They are
+            // not used nowadays and increases the risk of messing up the terminal state
+            // on binary input. XTerm does not allow them in utf-8:
+            // "It is not possible to use a C1 control obtained from decoding the
+            // UTF-8 text" - http://invisible-island.net/xterm/ctlseqs/ctlseqs.html
+        } else {
+            if (WcWidth.isUnassignedOrSurrogate(codePoint)) codePoint = UNICODE_REPLACEMENT_CHAR;
+            processCodePoint(codePoint);
+        }
     }
 
     private void processByte(byte byteToProcess) {
@@ -416,28 +683,9 @@ public final class TerminalEmulator {
                     int codePoint = (mUtf8InputBuffer[0] & firstByteMask);
                     for (int i = 1; i < mUtf8Index; i++)
                         codePoint = ((codePoint << 6) | (mUtf8InputBuffer[i] & 0b00111111));
-                    if (((codePoint <= 0b1111111) && mUtf8Index > 1) || (codePoint < 0b11111111111 && mUtf8Index > 2)
-                        || (codePoint < 0b1111111111111111 && mUtf8Index > 3)) {
-                        // Overlong encoding.
-                        codePoint = UNICODE_REPLACEMENT_CHAR;
-                    }
-
+                    int sequenceLength = mUtf8Index;
                     mUtf8Index = mUtf8ToFollow = 0;
-
-                    if (codePoint >= 0x80 && codePoint <= 0x9F) {
-                        // Sequence decoded to a C1 control character which we ignore. They are
-                        // not used nowadays and increases the risk of messing up the terminal state
-                        // on binary input. XTerm does not allow them in utf-8:
-                        // "It is not possible to use a C1 control obtained from decoding the
-                        // UTF-8 text" - http://invisible-island.net/xterm/ctlseqs/ctlseqs.html
-                    } else {
-                        switch (Character.getType(codePoint)) {
-                            case Character.UNASSIGNED:
-                            case Character.SURROGATE:
-                                codePoint = UNICODE_REPLACEMENT_CHAR;
-                        }
-                        processCodePoint(codePoint);
-                    }
+                    processDecodedCodePoint(codePoint, sequenceLength);
                 }
             } else {
                 // Not a UTF-8 continuation byte so replace the entire sequence up to now with the replacement char:
@@ -472,6 +720,29 @@ public final class TerminalEmulator {
     }
 
     public void processCodePoint(int b) {
+        final int action = (b < 128) ? PARSE_ACTIONS[(mEscapeState << 7) | b] : ((mEscapeState == ESC_NONE) ? PARSE_ACTION_PRINT : PARSE_ACTION_DISPATCH);
+        switch (action) {
+            case PARSE_ACTION_PRINT:
+                emitCodePoint(b);
+                break;
+            case PARSE_ACTION_PARAM:
+                parseArg(b);
+                break;
+            case PARSE_ACTION_EXECUTE:
+                executeControlCharacter(b);
+                break;
+            case PARSE_ACTION_DISPATCH:
+                mContinueSequence = false;
+                doEscapeState(b);
+                if (!mContinueSequence) mEscapeState = ESC_NONE;
+                break;
+            case PARSE_ACTION_IGNORE:
+                break;
+        }
+    }
+
+    /** Execute one of the C0 control characters which are acted upon regardless of the escape state. */
+    private void executeControlCharacter(int b) {
         switch (b) {
             case 0: // Null character (NUL, ^@). Do nothing.
                 break;
@@ -536,272 +807,272 @@ public final class TerminalEmulator {
                     doOsc(b);
                 }
                 break;
-            default:
-                mContinueSequence = false;
-                switch (mEscapeState) {
-                    case ESC_NONE:
-                        if (b >= 32) emitCodePoint(b);
-                        break;
-                    case ESC:
-                        doEsc(b);
-                        break;
-                    case ESC_POUND:
-                        doEscPound(b);
-                        break;
-                    case ESC_SELECT_LEFT_PAREN: // Designate G0 Character Set (ISO 2022, VT100).
-                        mUseLineDrawingG0 = (b == '0');
-                        break;
-                    case ESC_SELECT_RIGHT_PAREN: // Designate G1 Character Set (ISO 2022, VT100).
-                        mUseLineDrawingG1 = (b == '0');
-                        break;
-                    case ESC_CSI:
-                        doCsi(b);
+        }
+    }
+
+    /** Hand a code point to the handler of the current {@link #mEscapeState}. */
+    private void doEscapeState(int b) {
+        switch (mEscapeState) {
+            case ESC_NONE:
+                if (b >= 32) emitCodePoint(b);
+                break;
+            case ESC:
+                doEsc(b);
+                break;
+            case ESC_POUND:
+                doEscPound(b);
+                break;
+            case ESC_SELECT_LEFT_PAREN: // Designate G0 Character Set (ISO 2022, VT100).
+                mUseLineDrawingG0 = (b == '0');
+                break;
+            case ESC_SELECT_RIGHT_PAREN: // Designate G1 Character Set (ISO 2022, VT100).
+                mUseLineDrawingG1 = (b == '0');
+                break;
+            case ESC_CSI:
+                doCsi(b);
+                break;
+            case ESC_CSI_EXCLAMATION:
+                if (b == 'p') { // Soft terminal reset (DECSTR, http://vt100.net/docs/vt510-rm/DECSTR).
+                    reset();
+                } else {
+                    unknownSequence(b);
+                }
+                break;
+            case ESC_CSI_QUESTIONMARK:
+                doCsiQuestionMark(b);
+                break;
+            case ESC_CSI_BIGGERTHAN:
+                doCsiBiggerThan(b);
+                break;
+            case ESC_CSI_DOLLAR:
+                boolean originMode = isDecsetInternalBitSet(DECSET_BIT_ORIGIN_MODE);
+                int effectiveTopMargin = originMode ? mTopMargin : 0;
+                int effectiveBottomMargin = originMode ? mBottomMargin : mRows;
+                int effectiveLeftMargin = originMode ? mLeftMargin : 0;
+                int effectiveRightMargin = originMode ? mRightMargin : mColumns;
+                switch (b) {
+                    case 'v': // ${CSI}${SRC_TOP}${SRC_LEFT}${SRC_BOTTOM}${SRC_RIGHT}${SRC_PAGE}${DST_TOP}${DST_LEFT}${DST_PAGE}$v"
+                        // Copy rectangular area (DECCRA - http://vt100.net/docs/vt510-rm/DECCRA):
+                        // "If Pbs is greater than Pts, or Pls is greater than Prs, the terminal ignores DECCRA.
+                        // The coordinates of the rectangular area are affected by the setting of origin mode (DECOM).
+                        // DECCRA is not affected by the page margins.
+                        // The copied text takes on the line attributes of the destination area.
+                        // If the value of Pt, Pl, Pb, or Pr exceeds the width or height of the active page, then the value
+                        // is treated as the width or height of that page.
+                        // If the destination area is partially off the page, then DECCRA clips the off-page data.
+                        // DECCRA does not change the active cursor position."
+                        int topSource = Math.min(getArg(0, 1, true) - 1 + effectiveTopMargin, mRows);
+                        int leftSource = Math.min(getArg(1, 1, true) - 1 + effectiveLeftMargin, mColumns);
+                        // Inclusive, so do not subtract one:
+                        int bottomSource = Math.min(Math.max(getArg(2, mRows, true) + effectiveTopMargin, topSource), mRows);
+                        int rightSource = Math.min(Math.max(getArg(3, mColumns, true) + effectiveLeftMargin, leftSource), mColumns);
+                        // int sourcePage = getArg(4, 1, true);
+                        int destionationTop = Math.min(getArg(5, 1, true) - 1 + effectiveTopMargin, mRows);
+                        int destinationLeft = Math.min(getArg(6, 1, true) - 1 + effectiveLeftMargin, mColumns);
+                        // int destinationPage = getArg(7, 1, true);
+                        int heightToCopy = Math.min(mRows - destionationTop, bottomSource - topSource);
+                        int widthToCopy = Math.min(mColumns - destinationLeft, rightSource - leftSource);
+                        mScreen.blockCopy(leftSource, topSource, widthToCopy, heightToCopy, destinationLeft, destionationTop);
                         break;
-                    case ESC_CSI_EXCLAMATION:
-                        if (b == 'p') { // Soft terminal reset (DECSTR, http://vt100.net/docs/vt510-rm/DECSTR).
-                            reset();
-                        } else {
-                            unknownSequence(b);
+                    case '{': // ${CSI}${TOP}${LEFT}${BOTTOM}${RIGHT}${"
+                        // Selective erase rectangular area (DECSERA - http://www.vt100.net/docs/vt510-rm/DECSERA).
+                    case 'x': // ${CSI}${CHAR};${TOP}${LEFT}${BOTTOM}${RIGHT}$x"
+                        // Fill rectangular area (DECFRA - http://www.vt100.net/docs/vt510-rm/DECFRA).
+                    case 'z': // ${CSI}$${TOP}${LEFT}${BOTTOM}${RIGHT}$z"
+                        // Erase rectangular area (DECERA - http://www.vt100.net/docs/vt510-rm/DECERA).
+                        boolean erase = b != 'x';
+                        boolean selective = b == '{';
+                        // Only DECSERA keeps visual attributes, DECERA does not:
+                        boolean keepVisualAttributes = erase && selective;
+                        int argIndex = 0;
+                        int fillChar = erase ? ' ' : getArg(argIndex++, -1, true);
+                        // "Pch can be any value from 32 to 126 or from 160 to 255. If Pch is not in this range, then the
+                        // terminal ignores the DECFRA command":
+                        if ((fillChar >= 32 && fillChar <= 126) || (fillChar >= 160 && fillChar <= 255)) {
+                            // "If the value of Pt, Pl, Pb, or Pr exceeds the width or height of the active page, the value
+                            // is treated as the width or height of that page."
+                            int top = Math.min(getArg(argIndex++, 1, true) + effectiveTopMargin, effectiveBottomMargin + 1);
+                            int left = Math.min(getArg(argIndex++, 1, true) + effectiveLeftMargin, effectiveRightMargin + 1);
+                            int bottom = Math.min(getArg(argIndex++, mRows, true) + effectiveTopMargin, effectiveBottomMargin);
+                            int right = Math.min(getArg(argIndex, mColumns, true) + effectiveLeftMargin, effectiveRightMargin);
+                            long style = getStyle();
+                            for (int row = top - 1; row < bottom; row++)
+                                for (int col = left - 1; col < right; col++)
+                                    if (!selective || (TextStyle.decodeEffect(mScreen.getStyleAt(row, col)) & TextStyle.CHARACTER_ATTRIBUTE_PROTECTED) == 0)
+                                        mScreen.setChar(col, row, fillChar, keepVisualAttributes ? mScreen.getStyleAt(row, col) : style);
                         }
                         break;
-                    case ESC_CSI_QUESTIONMARK:
-                        doCsiQuestionMark(b);
-                        break;
-                    case ESC_CSI_BIGGERTHAN:
-                        doCsiBiggerThan(b);
-                        break;
-                    case ESC_CSI_DOLLAR:
-                        boolean originMode = isDecsetInternalBitSet(DECSET_BIT_ORIGIN_MODE);
-                        int effectiveTopMargin = originMode ? mTopMargin : 0;
-                        int effectiveBottomMargin = originMode ? mBottomMargin : mRows;
-                        int effectiveLeftMargin = originMode ? mLeftMargin : 0;
-                        int effectiveRightMargin = originMode ? mRightMargin : mColumns;
-                        switch (b) {
-                            case 'v': // ${CSI}${SRC_TOP}${SRC_LEFT}${SRC_BOTTOM}${SRC_RIGHT}${SRC_PAGE}${DST_TOP}${DST_LEFT}${DST_PAGE}$v"
-                                // Copy rectangular area (DECCRA - http://vt100.net/docs/vt510-rm/DECCRA):
-                                // "If Pbs is greater than Pts, or Pls is greater than Prs, the terminal ignores DECCRA.
-                                // The coordinates of the rectangular area are affected by the setting of origin mode (DECOM).
-                                // DECCRA is not affected by the page margins.
-                                // The copied text takes on the line attributes of the destination area.
-                                // If the value of Pt, Pl, Pb, or Pr exceeds the width or height of the active page, then the value
-                                // is treated as the width or height of that page.
-                                // If the destination area is partially off the page, then DECCRA clips the off-page data.
-                                // DECCRA does not change the active cursor position."
-                                int topSource = Math.min(getArg(0, 1, true) - 1 + effectiveTopMargin, mRows);
-                                int leftSource = Math.min(getArg(1, 1, true) - 1 + effectiveLeftMargin, mColumns);
-                                // Inclusive, so do not subtract one:
-                                int bottomSource = Math.min(Math.max(getArg(2, mRows, true) + effectiveTopMargin, topSource), mRows);
-                                int rightSource = Math.min(Math.max(getArg(3, mColumns, true) + effectiveLeftMargin, leftSource), mColumns);
-                                // int sourcePage = getArg(4, 1, true);
-                                int destionationTop = Math.min(getArg(5, 1, true) - 1 + effectiveTopMargin, mRows);
-                                int destinationLeft = Math.min(getArg(6, 1, true) - 1 + effectiveLeftMargin, mColumns);
-                                // int destinationPage = getArg(7, 1, true);
-                                int heightToCopy = Math.min(mRows - destionationTop, bottomSource - topSource);
-                                int widthToCopy = Math.min(mColumns - destinationLeft, rightSource - leftSource);
-                                mScreen.blockCopy(leftSource, topSource, widthToCopy, heightToCopy, destinationLeft, destionationTop);
-                                break;
-                            case '{': // ${CSI}${TOP}${LEFT}${BOTTOM}${RIGHT}${"
-                                // Selective erase rectangular area (DECSERA - http://www.vt100.net/docs/vt510-rm/DECSERA).
-                            case 'x': // ${CSI}${CHAR};${TOP}${LEFT}${BOTTOM}${RIGHT}$x"
-                                // Fill rectangular area (DECFRA - http://www.vt100.net/docs/vt510-rm/DECFRA).
-                            case 'z': // ${CSI}$${TOP}${LEFT}${BOTTOM}${RIGHT}$z"
-                                // Erase rectangular area (DECERA - http://www.vt100.net/docs/vt510-rm/DECERA).
-                                boolean erase = b != 'x';
-                                boolean selective = b == '{';
-                                // Only DECSERA keeps visual attributes, DECERA does not:
-                                boolean keepVisualAttributes = erase && selective;
-                                int argIndex = 0;
-                                int fillChar = erase ? ' ' : getArg(argIndex++, -1, true);
-                                // "Pch can be any value from 32 to 126 or from 160 to 255. If Pch is not in this range, then the
-                                // terminal ignores the DECFRA command":
-                                if ((fillChar >= 32 && fillChar <= 126) || (fillChar >= 160 && fillChar <= 255)) {
-                                    // "If the value of Pt, Pl, Pb, or Pr exceeds the width or height of the active page, the value
-                                    // is treated as the width or height of that page."
-                                    int top = Math.min(getArg(argIndex++, 1, true) + effectiveTopMargin, effectiveBottomMargin + 1);
-                                    int left = Math.min(getArg(argIndex++, 1, true) + effectiveLeftMargin, effectiveRightMargin + 1);
-                                    int bottom = Math.min(getArg(argIndex++, mRows, true) + effectiveTopMargin, effectiveBottomMargin);
-                                    int right = Math.min(getArg(argIndex, mColumns, true) + effectiveLeftMargin, effectiveRightMargin);
-                                    long style = getStyle();
-                                    for (int row = top - 1; row < bottom; row++)
-                                        for (int col = left - 1; col < right; col++)
-                                            if (!selective || (TextStyle.decodeEffect(mScreen.getStyleAt(row, col)) & TextStyle.CHARACTER_ATTRIBUTE_PROTECTED) == 0)
-                                                mScreen.setChar(col, row, fillChar, keepVisualAttributes ? mScreen.getStyleAt(row, col) : style);
+                    case 'r': // "${CSI}${TOP}${LEFT}${BOTTOM}${RIGHT}${ATTRIBUTES}$r"
+                        // Change attributes in rectangular area (DECCARA - http://vt100.net/docs/vt510-rm/DECCARA).
+                    case 't': // "${CSI}${TOP}${LEFT}${BOTTOM}${RIGHT}${ATTRIBUTES}$t"
+                        // Reverse attributes in rectangular area (DECRARA - http://www.vt100.net/docs/vt510-rm/DECRARA).
+                        boolean reverse = b == 't';
+                        // FIXME: "coordinates of the rectangular area are affected by the setting of origin mode (DECOM)".
+                        int top = Math.min(getArg(0, 1, true) - 1, effectiveBottomMargin) + effectiveTopMargin;
+                        int left = Math.min(getArg(1, 1, true) - 1, effectiveRightMargin) + effectiveLeftMargin;
+                        int bottom = Math.min(getArg(2, mRows, true) + 1, effectiveBottomMargin - 1) + effectiveTopMargin;
+                        int right = Math.min(getArg(3, mColumns, true) + 1, effectiveRightMargin - 1) + effectiveLeftMargin;
+                        if (mArgIndex >= 4) {
+                            if (mArgIndex >= mArgs.length) mArgIndex = mArgs.length - 1;
+                            for (int i = 4; i <= mArgIndex; i++) {
+                                int bits = 0;
+                                boolean setOrClear = true; // True if setting, false if clearing.
+                                switch (getArg(i, 0, false)) {
+                                    case 0: // Attributes off (no bold, no underline, no blink, positive image).
+                                        bits = (TextStyle.CHARACTER_ATTRIBUTE_BOLD | TextStyle.CHARACTER_ATTRIBUTE_UNDERLINE | TextStyle.CHARACTER_ATTRIBUTE_BLINK
+                                            | TextStyle.CHARACTER_ATTRIBUTE_INVERSE);
+                                        if (!reverse) setOrClear = false;
+                                        break;
+                                    case 1: // Bold.
+                                        bits = TextStyle.CHARACTER_ATTRIBUTE_BOLD;
+                                        break;
+                                    case 4: // Underline.
+                                        bits = TextStyle.CHARACTER_ATTRIBUTE_UNDERLINE;
+                                        break;
+                                    case 5: // Blink.
+                                        bits = TextStyle.CHARACTER_ATTRIBUTE_BLINK;
+                                        break;
+                                    case 7: // Negative image.
+                                        bits = TextStyle.CHARACTER_ATTRIBUTE_INVERSE;
+                                        break;
+                                    case 22: // No bold.
+                                        bits = TextStyle.CHARACTER_ATTRIBUTE_BOLD;
+                                        setOrClear = false;
+                                        break;
+                                    case 24: // No underline.
+                                        bits = TextStyle.CHARACTER_ATTRIBUTE_UNDERLINE;
+                                        setOrClear = false;
+                                        break;
+                                    case 25: // No blink.
+                                        bits = TextStyle.CHARACTER_ATTRIBUTE_BLINK;
+                                        setOrClear = false;
+                                        break;
+                                    case 27: // Positive image.
+                                        bits = TextStyle.CHARACTER_ATTRIBUTE_INVERSE;
+                                        setOrClear = false;
+                                        break;
                                 }
-                                break;
-                            case 'r': // "${CSI}${TOP}${LEFT}${BOTTOM}${RIGHT}${ATTRIBUTES}$r"
-                                // Change attributes in rectangular area (DECCARA - http://vt100.net/docs/vt510-rm/DECCARA).
-                            case 't': // "${CSI}${TOP}${LEFT}${BOTTOM}${RIGHT}${ATTRIBUTES}$t"
-                                // Reverse attributes in rectangular area (DECRARA - http://www.vt100.net/docs/vt510-rm/DECRARA).
-                                boolean reverse = b == 't';
-                                // FIXME: "coordinates of the rectangular area are affected by the setting of origin mode (DECOM)".
-                                int top = Math.min(getArg(0, 1, true) - 1, effectiveBottomMargin) + effectiveTopMargin;
-                                int left = Math.min(getArg(1, 1, true) - 1, effectiveRightMargin) + effectiveLeftMargin;
-                                int bottom = Math.min(getArg(2, mRows, true) + 1, effectiveBottomMargin - 1) + effectiveTopMargin;
-                                int right = Math.min(getArg(3, mColumns, true) + 1, effectiveRightMargin - 1) + effectiveLeftMargin;
-                                if (mArgIndex >= 4) {
-                                    if (mArgIndex >= mArgs.length) mArgIndex = mArgs.length - 1;
-                                    for (int i = 4; i <= mArgIndex; i++) {
-                                        int bits = 0;
-                                        boolean setOrClear = true; // True if setting, false if clearing.
-                                        switch (getArg(i, 0, false)) {
-                                            case 0: // Attributes off (no bold, no underline, no blink, positive image).
-                                                bits = (TextStyle.CHARACTER_ATTRIBUTE_BOLD | TextStyle.CHARACTER_ATTRIBUTE_UNDERLINE | TextStyle.CHARACTER_ATTRIBUTE_BLINK
-                                                    | TextStyle.CHARACTER_ATTRIBUTE_INVERSE);
-                                                if (!reverse) setOrClear = false;
-                                                break;
-                                            case 1: // Bold.
-                                                bits = TextStyle.CHARACTER_ATTRIBUTE_BOLD;
-                                                break;
-                                            case 4: // Underline.
-                                                bits = TextStyle.CHARACTER_ATTRIBUTE_UNDERLINE;
-                                                break;
-                                            case 5: // Blink.
-                                                bits = TextStyle.CHARACTER_ATTRIBUTE_BLINK;
-                                                break;
-                                            case 7: // Negative image.
-                                                bits = TextStyle.CHARACTER_ATTRIBUTE_INVERSE;
-                                                break;
-                                            case 22: // No bold.
-                                                bits = TextStyle.CHARACTER_ATTRIBUTE_BOLD;
-                                                setOrClear = false;
-                                                break;
-                                            case 24: // No underline.
-                                                bits = TextStyle.CHARACTER_ATTRIBUTE_UNDERLINE;
-                                                setOrClear = false;
-                                                break;
-                                            case 25: // No blink.
-                                                bits = TextStyle.CHARACTER_ATTRIBUTE_BLINK;
-                                                setOrClear = false;
-                                                break;
-                                            case 27: // Positive image.
-                                                bits = TextStyle.CHARACTER_ATTRIBUTE_INVERSE;
-                                                setOrClear = false;
-                                                break;
-                                        }
-                                        if (reverse && !setOrClear) {
-                                            // Reverse attributes in rectangular area ignores non-(1,4,5,7) bits.
-                                        } else {
-                                            mScreen.setOrClearEffect(bits, setOrClear, reverse, isDecsetInternalBitSet(DECSET_BIT_RECTANGULAR_CHANGEATTRIBUTE),
-                                                effectiveLeftMargin, effectiveRightMargin, top, left, bottom, right);
-                                        }
-                                    }
+                                if (reverse && !setOrClear) {
+                                    // Reverse attributes in rectangular area ignores non-(1,4,5,7) bits.
                                 } else {
-                                    // Do nothing.
+                                    mScreen.setOrClearEffect(bits, setOrClear, reverse, isDecsetInternalBitSet(DECSET_BIT_RECTANGULAR_CHANGEATTRIBUTE),
+                                        effectiveLeftMargin, effectiveRightMargin, top, left, bottom, right);
                                 }
-                                break;
-                            default:
-                                unknownSequence(b);
-                        }
-                        break;
-                    case ESC_CSI_DOUBLE_QUOTE:
-                        if (b == 'q') {
-                            // http://www.vt100.net/docs/vt510-rm/DECSCA
-                            int arg = getArg0(0);
-                            if (arg == 0 || arg == 2) {
-                                // DECSED and DECSEL can erase characters.
-                                mEffect &= ~TextStyle.CHARACTER_ATTRIBUTE_PROTECTED;
-                            } else if (arg == 1) {
-                                // DECSED and DECSEL cannot erase characters.
-                                mEffect |= TextStyle.CHARACTER_ATTRIBUTE_PROTECTED;
-                            } else {
-                                unknownSequence(b);
                             }
                         } else {
-                            unknownSequence(b);
-                        }
-                        break;
-                    case ESC_CSI_SINGLE_QUOTE:
-                        if (b == '}') { // Insert Ps Column(s) (default = 1) (DECIC), VT420 and up.
-                            int columnsAfterCursor = mRightMargin - mCursorCol;
-                            int columnsToInsert = Math.min(getArg0(1), columnsAfterCursor);
-                            int columnsToMove = columnsAfterCursor - columnsToInsert;
-                            mScreen.blockCopy(mCursorCol, 0, columnsToMove, mRows, mCursorCol + columnsToInsert, 0);
-                            blockClear(mCursorCol, 0, columnsToInsert, mRows);
-                        } else if (b == '~') { // Delete Ps Column(s) (default = 1) (DECDC), VT420 and up.
-                            int columnsAfterCursor = mRightMargin - mCursorCol;
-                            int columnsToDelete = Math.min(getArg0(1), columnsAfterCursor);
-                            int columnsToMove = columnsAfterCursor - columnsToDelete;
-                            mScreen.blockCopy(mCursorCol + columnsToDelete, 0, columnsToMove, mRows, mCursorCol, 0);
-                            blockClear(mCursorRow + columnsToMove, 0, columnsToDelete, mRows);
-                        } else {
-                            unknownSequence(b);
+                            // Do nothing.
                         }
                         break;
-                    case ESC_PERCENT:
-                        break;
-                    case ESC_OSC:
-                        doOsc(b);
-                        break;
-                    case ESC_OSC_ESC:
-                        doOscEsc(b);
-                        break;
-                    case ESC_P:
-                        doDeviceControl(b);
-                        break;
-                    case ESC_CSI_QUESTIONMARK_ARG_DOLLAR:
-                        if (b == 'p') {
-                            // Request DEC private mode (DECRQM).
-                            int mode = getArg0(0);
-                            int value;
-                            if (mode == 47 || mode == 1047 || mode == 1049) {
-                                // This state is carried by mScreen pointer.
-                                value = (mScreen == mAltBuffer) ? 1 : 2;
-                            } else {
-                                int internalBit = mapDecSetBitToInternalBit(mode);
-                                if (internalBit != -1) {
-                                    value = isDecsetInternalBitSet(internalBit) ? 1 : 2; // 1=set, 2=reset.
-                                } else {
-                                    Log.e(EmulatorDebug.LOG_TAG, "Got DECRQM for unrecognized private DEC mode=" + mode);
-                                    value = 0; // 0=not recognized, 3=permanently set, 4=permanently reset
-                                }
-                            }
-                            mSession.write(String.format(Locale.US, "\033[?%d;%d$y", mode, value));
+                    default:
+                        unknownSequence(b);
+                }
+                break;
+            case ESC_CSI_DOUBLE_QUOTE:
+                if (b == 'q') {
+                    // http://www.vt100.net/docs/vt510-rm/DECSCA
+                    int arg = getArg0(0);
+                    if (arg == 0 || arg == 2) {
+                        // DECSED and DECSEL can erase characters.
+                        mEffect &= ~TextStyle.CHARACTER_ATTRIBUTE_PROTECTED;
+                    } else if (arg == 1) {
+                        // DECSED and DECSEL cannot erase characters.
+                        mEffect |= TextStyle.CHARACTER_ATTRIBUTE_PROTECTED;
+                    } else {
+                        unknownSequence(b);
+                    }
+                } else {
+                    unknownSequence(b);
+                }
+                break;
+            case ESC_CSI_SINGLE_QUOTE:
+                if (b == '}') { // Insert Ps Column(s) (default = 1) (DECIC), VT420 and up.
+                    int columnsAfterCursor = mRightMargin - mCursorCol;
+                    int columnsToInsert = Math.min(getArg0(1), columnsAfterCursor);
+                    int columnsToMove = columnsAfterCursor - columnsToInsert;
+                    mScreen.blockCopy(mCursorCol, 0, columnsToMove, mRows, mCursorCol + columnsToInsert, 0);
+                    blockClear(mCursorCol, 0, columnsToInsert, mRows);
+                } else if (b == '~') { // Delete Ps Column(s) (default = 1) (DECDC), VT420 and up.
+                    int columnsAfterCursor = mRightMargin - mCursorCol;
+                    int columnsToDelete = Math.min(getArg0(1), columnsAfterCursor);
+                    int columnsToMove = columnsAfterCursor - columnsToDelete;
+                    mScreen.blockCopy(mCursorCol + columnsToDelete, 0, columnsToMove, mRows, mCursorCol, 0);
+                    blockClear(mCursorRow + columnsToMove, 0, columnsToDelete, mRows);
+                } else {
+                    unknownSequence(b);
+                }
+                break;
+            case ESC_PERCENT:
+                break;
+            case ESC_OSC:
+                doOsc(b);
+                break;
+            case ESC_OSC_ESC:
+                doOscEsc(b);
+                break;
+            case ESC_P:
+                doDeviceControl(b);
+                break;
+            case ESC_CSI_QUESTIONMARK_ARG_DOLLAR:
+                if (b == 'p') {
+                    // Request DEC private mode (DECRQM).
+                    int mode = getArg0(0);
+                    int value;
+                    if (mode == 47 || mode == 1047 || mode == 1049) {
+                        // This state is carried by mScreen pointer.
+                        value = (mScreen == mAltBuffer) ? 1 : 2;
+                    } else {
+                        int internalBit = mapDecSetBitToInternalBit(mode);
+                        if (internalBit != -1) {
+                            value = isDecsetInternalBitSet(internalBit) ? 1 : 2; // 1=set, 2=reset.
                         } else {
-                            unknownSequence(b);
+                            Log.e(EmulatorDebug.LOG_TAG, "Got DECRQM for unrecognized private DEC mode=" + mode);
+                            value = 0; // 0=not recognized, 3=permanently set, 4=permanently reset
                         }
-                        break;
-                    case ESC_CSI_ARGS_SPACE:
-                        int arg = getArg0(0);
-                        switch (b) {
-                            case 'q': // "${CSI}${STYLE} q" - set cursor style (http://www.vt100.net/docs/vt510-rm/DECSCUSR).
-                                switch (arg) {
-                                    case 0: // Blinking block.
-                                    case 1: // Blinking block.
-                                    case 2: // Steady block.
-                                        mCursorStyle = CURSOR_STYLE_BLOCK;
-                                        break;
-                                    case 3: // Blinking underline.
-                                    case 4: // Steady underline.
-                                        mCursorStyle = CURSOR_STYLE_UNDERLINE;
-                                        break;
-                                    case 5: // Blinking bar (xterm addition).
-                                    case 6: // Steady bar (xterm addition).
-                                        mCursorStyle = CURSOR_STYLE_BAR;
-                                        break;
-                                }
+                    }
+                    mSession.write(String.format(Locale.US, "\033[?%d;%d$y", mode, value));
+                } else {
+                    unknownSequence(b);
+                }
+                break;
+            case ESC_CSI_ARGS_SPACE:
+                int arg = getArg0(0);
+                switch (b) {
+                    case 'q': // "${CSI}${STYLE} q" - set cursor style (http://www.vt100.net/docs/vt510-rm/DECSCUSR).
+                        switch (arg) {
+                            case 0: // Blinking block.
+                            case 1: // Blinking block.
+                            case 2: // Steady block.
+                                mCursorStyle = CURSOR_STYLE_BLOCK;
                                 break;
-                            case 't':
-                            case 'u':
-                                // Set margin-bell volume - ignore.
+                            case 3: // Blinking underline.
+                            case 4: // Steady underline.
+                                mCursorStyle = CURSOR_STYLE_UNDERLINE;
+                                break;
+                            case 5: // Blinking bar (xterm addition).
+                            case 6: // Steady bar (xterm addition).
+                                mCursorStyle = CURSOR_STYLE_BAR;
                                 break;
-                            default:
-                                unknownSequence(b);
                         }
                         break;
-                    case ESC_CSI_ARGS_ASTERIX:
-                        int attributeChangeExtent = getArg0(0);
-                        if (b == 'x' && (attributeChangeExtent >= 0 && attributeChangeExtent <= 2)) {
-                            // Select attribute change extent (DECSACE - http://www.vt100.net/docs/vt510-rm/DECSACE).
-                            setDecsetinternalBit(DECSET_BIT_RECTANGULAR_CHANGEATTRIBUTE, attributeChangeExtent == 2);
-                        } else {
-                            unknownSequence(b);
-                        }
+                    case 't':
+                    case 'u':
+                        // Set margin-bell volume - ignore.
                         break;
                     default:
                         unknownSequence(b);
-                        break;
                 }
-                if (!mContinueSequence) mEscapeState = ESC_NONE;
+                break;
+            case ESC_CSI_ARGS_ASTERIX:
+                int attributeChangeExtent = getArg0(0);
+                if (b == 'x' && (attributeChangeExtent >= 0 && attributeChangeExtent <= 2)) {
+                    // Select attribute change extent (DECSACE - http://www.vt100.net/docs/vt510-rm/DECSACE).
+                    setDecsetinternalBit(DECSET_BIT_RECTANGULAR_CHANGEATTRIBUTE, attributeChangeExtent == 2);
+                } else {
+                    unknownSequence(b);
+                }
+                break;
+            default:
+                unknownSequence(b);
                 break;
         }
     }
@@ -1197,16 +1468,21 @@ public final class TerminalEmulator {
     }
 
     private void doLinefeed() {
+        doLinefeeds(1);
+    }
+
+    /** Move down the specified number of lines, with the same result as that many line feeds but scrolling at once. */
+    private void doLinefeeds(int lines) {
         boolean belowScrollingRegion = mCursorRow >= mBottomMargin;
-        int newCursorRow = mCursorRow + 1;
+        int newCursorRow = mCursorRow + lines;
         if (belowScrollingRegion) {
             // Move down (but not scroll) as long as we are above the last row.
             if (mCursorRow != mRows - 1) {
-                setCursorRow(newCursorRow);
+                setCursorRow(Math.min(newCursorRow, mRows - 1));
             }
         } else {
-            if (newCursorRow == mBottomMargin) {
-                scrollDownOneLine();
+            if (newCursorRow >= mBottomMargin) {
+                scrollDown(newCursorRow - (mBottomMargin - 1));
                 newCursorRow = mBottomMargin - 1;
             }
             setCursorRow(newCursorRow);
@@ -1288,8 +1564,7 @@ public final class TerminalEmulator {
                 // http://www.vt100.net/docs/vt100-ug/chapter3.html: "Move the active position to the same horizontal
                 // position on the preceding line. If the active position is at the top margin, a scroll down is performed".
                 if (mCursorRow <= mTopMargin) {
-                    mScreen.blockCopy(0, mTopMargin, mColumns, mBottomMargin - (mTopMargin + 1), 0, mTopMargin + 1);
-                    blockClear(0, mTopMargin, mColumns);
+                    mScreen.scrollLines(mTopMargin, mBottomMargin, 1, getStyle());
                 } else {
                     mCursorRow--;
                 }
@@ -1371,9 +1646,7 @@ public final class TerminalEmulator {
                 mAboutToAutoWrap = false;
                 int columnsAfterCursor = mColumns - mCursorCol;
                 int spacesToInsert = Math.min(getArg0(1), columnsAfterCursor);
-                int charsToMove = columnsAfterCursor - spacesToInsert;
-                mScreen.blockCopy(mCursorCol, mCursorRow, charsToMove, 1, mCursorCol + spacesToInsert, mCursorRow);
-                blockClear(mCursorCol, mCursorRow, spacesToInsert);
+                mScreen.insertCells(mCursorCol, mCursorRow, mColumns, spacesToInsert, getStyle());
             }
             break;
             case 'A': // "CSI${n}A" - Cursor up (CUU) ${n} rows.
@@ -1450,9 +1723,7 @@ public final class TerminalEmulator {
             {
                 int linesAfterCursor = mBottomMargin - mCursorRow;
                 int linesToInsert = Math.min(getArg0(1), linesAfterCursor);
-                int linesToMove = linesAfterCursor - linesToInsert;
-                mScreen.blockCopy(0, mCursorRow, mColumns, linesToMove, 0, mCursorRow + linesToInsert);
-                blockClear(0, mCursorRow, mColumns, linesToInsert);
+                if (linesAfterCursor > 0) mScreen.scrollLines(mCursorRow, mBottomMargin, linesToInsert, getStyle());
             }
             break;
             case 'M': // "${CSI}${N}M" - delete N lines (DL).
@@ -1460,9 +1731,7 @@ public final class TerminalEmulator {
                 mAboutToAutoWrap = false;
                 int linesAfterCursor = mBottomMargin - mCursorRow;
                 int linesToDelete = Math.min(getArg0(1), linesAfterCursor);
-                int linesToMove = linesAfterCursor - linesToDelete;
-                mScreen.blockCopy(0, mCursorRow + linesToDelete, mColumns, linesToMove, 0, mCursorRow);
-                blockClear(0, mCursorRow + linesToMove, mColumns, linesToDelete);
+                if (linesAfterCursor > 0) mScreen.scrollLines(mCursorRow, mBottomMargin, -linesToDelete, getStyle());
             }
             break;
             case 'P': // "${CSI}{N}P" - delete ${N} characters (DCH).
@@ -1475,15 +1744,11 @@ public final class TerminalEmulator {
                 mAboutToAutoWrap = false;
                 int cellsAfterCursor = mColumns - mCursorCol;
                 int cellsToDelete = Math.min(getArg0(1), cellsAfterCursor);
-                int cellsToMove = cellsAfterCursor - cellsToDelete;
-                mScreen.blockCopy(mCursorCol + cellsToDelete, mCursorRow, cellsToMove, 1, mCursorCol, mCursorRow);
-                blockClear(mCursorCol + cellsToMove, mCursorRow, cellsToDelete);
+                mScreen.deleteCells(mCursorCol, mCursorRow, mColumns, cellsToDelete, getStyle());
             }
             break;
             case 'S': { // "${CSI}${N}S" - scroll up ${N} lines (default = 1) (SU).
-                final int linesToScroll = getArg0(1);
-                for (int i = 0; i < linesToScroll; i++)
-                    scrollDownOneLine();
+                scrollDown(getArg0(1));
                 break;
             }
             case 'T':
@@ -1495,8 +1760,7 @@ public final class TerminalEmulator {
                     final int linesToScrollArg = getArg0(1);
                     final int linesBetweenTopAndBottomMargins = mBottomMargin - mTopMargin;
                     final int linesToScroll = Math.min(linesBetweenTopAndBottomMargins, linesToScrollArg);
-                    mScreen.blockCopy(0, mTopMargin, mColumns, linesBetweenTopAndBottomMargins - linesToScroll, 0, mTopMargin + linesToScroll);
-                    blockClear(0, mTopMargin, mColumns, linesToScroll);
+                    mScreen.scrollLines(mTopMargin, mBottomMargin, linesToScroll, getStyle());
                 } else {
                     // "${CSI}${func};${startx};${starty};${firstrow};${lastrow}T" - initiate highlight mouse tracking.
                     unimplementedSequence(b);
@@ -1998,15 +2262,17 @@ public final class TerminalEmulator {
         setCursorRowCol(newRow, newCol);
     }
 
-    private void scrollDownOneLine() {
-        mScrollCounter++;
+    private void scrollDown(int lines) {
+        mScrollCounter += lines;
         if (mLeftMargin != 0 || mRightMargin != mColumns) {
             // Horizontal margin: Do not put anything into scroll history, just non-margin part of screen up.
-            mScreen.blockCopy(mLeftMargin, mTopMargin + 1, mRightMargin - mLeftMargin, mBottomMargin - mTopMargin - 1, mLeftMargin, mTopMargin);
-            // .. and blank bottom row between margins:
-            mScreen.blockSet(mLeftMargin, mBottomMargin - 1, mRightMargin - mLeftMargin, 1, ' ', mEffect);
+            final int linesInRegion = mBottomMargin - mTopMargin;
+            if (lines > linesInRegion) lines = linesInRegion;
+            mScreen.blockCopy(mLeftMargin, mTopMargin + lines, mRightMargin - mLeftMargin, linesInRegion - lines, mLeftMargin, mTopMargin);
+            // .. and blank bottom rows between margins:
+            mScreen.blockSet(mLeftMargin, mBottomMargin - lines, mRightMargin - mLeftMargin, lines, ' ', mEffect);
         } else {
-            mScreen.scrollDownOneLine(mTopMargin, mBottomMargin, getStyle());
+            mScreen.scrollDown(lines, mTopMargin, mBottomMargin, getStyle());
         }
     }
 
@@ -2232,7 +2498,7 @@ public final class TerminalEmulator {
                 if (mCursorRow + 1 < mBottomMargin) {
                     mCursorRow++;
                 } else {
-                    scrollDownOneLine();
+                    scrollDown(1);
                 }
             }
         } else if (cursorInLastColumn && displayWidth == 2) {
@@ -2245,11 +2511,17 @@ public final class TerminalEmulator {
             // Move character to right one space.
             int destCol = mCursorCol + displayWidth;
             if (destCol < mRightMargin)
-                mScreen.blockCopy(mCursorCol, mCursorRow, mRightMargin - destCol, 1, destCol, mCursorRow);
+                mScreen.insertCells(mCursorCol, mCursorRow, mRightMargin, displayWidth, getStyle());
         }
 
         int offsetDueToCombiningChar = ((displayWidth <= 0 && mCursorCol > 0 && !mAboutToAutoWrap) ? 1 : 0);
-        mScreen.setChar(mCursorCol - offsetDueToCombiningChar, mCursorRow, codePoint, getStyle());
+        int columnToSet = mCursorCol - offsetDueToCombiningChar;
+        if (displayWidth <= 0 && mScreen.getCombiningCodePointCount(columnToSet, mCursorRow) >= mMaxCombiningCharsPerCell) {
+            // Every combining char makes the row longer, so drop them instead of letting garbage input grow it forever.
+            mDroppedCombiningChars++;
+            return;
+        }
+        mScreen.setChar(columnToSet, mCursorRow, codePoint, getStyle());
 
         if (autoWrap && displayWidth > 0)
             mAboutToAutoWrap = (mCursorCol == mRightMargin - displayWidth);
@@ -2287,6 +2559,25 @@ public final class TerminalEmulator {
         mScrollCounter = 0;
     }
 
+    /**
+     * Set the maximum number of combining characters stored in a cell, such as accents on a letter. Further combining
+     * characters written to the cell are dropped, which bounds the memory and time spent on pathological input.
+     */
+    public void setMaxCombiningCharsPerCell(int maxCombiningCharsPerCell) {
+        if (maxCombiningCharsPerCell < 0)
+            throw new IllegalArgumentException("maxCombiningCharsPerCell=" + maxCombiningCharsPerCell);
+        mMaxCombiningCharsPerCell = maxCombiningCharsPerCell;
+    }
+
+    public int getMaxCombiningCharsPerCell() {
+        return mMaxCombiningCharsPerCell;
+    }
+
+    /** The number of combining characters dropped since creation due to {@link #setMaxCombiningCharsPerCell(int)}. */
+    public int getDroppedCombiningCharCount() {
+        return mDroppedCombiningChars;
+    }
+
     /** Reset terminal state so user can interact with it regardless of present state. */
     public void reset() {
         mCursorStyle = CURSOR_STYLE_BLOCK;
@@ -5,35 +5,83 @@ import java.util.Arrays;
 /**
  * A row in a terminal, composed of a fixed number of cells.
  * <p>
- * The text in the row is stored in a char[] array, {@link #mText}, for quick access during rendering.
+ * The text in the row is stored in a char[] array, {@link #mText}, for quick access during rendering. It starts out with
+ * one char per column and only grows when surrogate pairs or combining characters need more room. The style of each
+ * cell is only stored once the cells of the row stop sharing the same style.
  */
 public final class TerminalRow {
 
-    private static final float SPARE_CAPACITY_FACTOR = 1.5f;
-
     /** The number of columns in this terminal row. */
-    private final int mColumns;
+    final int mColumns;
     /** The text filling this terminal row. */
     public char[] mText;
     /** The number of java char:s used in {@link #mText}. */
     private short mSpaceUsed;
     /** If this row has been line wrapped due to text output at the end of line. */
     boolean mLineWrap;
-    /** The style bits of each cell in the row. See {@link TextStyle}. */
-    final long[] mStyle;
+    /**
+     * The style bits of each cell in the row, or null while compacted into {@link #mRunStyles} or while all cells have
+     * {@link #mFillStyle}. See {@link TextStyle}.
+     */
+    private long[] mStyle;
+    /**
+     * The styles of the runs of cells with the same style, used instead of {@link #mStyle} for rows in the scroll history
+     * which are not expected to change. See {@link #compactStyles()}.
+     */
+    private long[] mRunStyles;
+    /** The column after the last cell of each run in {@link #mRunStyles}, or null if all cells have {@link #mFillStyle}. */
+    private short[] mRunEnds;
+    /** The style of all cells if {@link #mHasSingleStyle}. */
+    private long mFillStyle;
+    /** If all cells have the same style, so that compacting the row needs no scan of {@link #mStyle}. */
+    private boolean mHasSingleStyle;
+    /** The run last looked up by {@link #getStyle(int)}, as cells are mostly read from left to right. */
+    private int mLastRun;
     /** If this row might contain chars with width != 1, used for deactivating fast path */
     boolean mHasNonOneWidthOrSurrogateChars;
+    /**
+     * The index in {@link #mText} where the char occupying each column starts, lazily built when the row contains chars
+     * with width != 1. The second half of a wide char maps to the same index as its first half.
+     */
+    private short[] mColumnIndex;
+    /** The number of leading columns whose entries in {@link #mColumnIndex} are up to date. */
+    private int mValidColumns;
+    /** The version of the buffer this row was created or copied in, see {@link TerminalBuffer#shareRows}. */
+    int mVersion;
 
     /** Construct a blank row (containing only whitespace, ' ') with a specified style. */
     public TerminalRow(int columns, long style) {
         mColumns = columns;
-        mText = new char[(int) (SPARE_CAPACITY_FACTOR * columns)];
-        mStyle = new long[columns];
+        mText = new char[columns];
         clear(style);
     }
 
+    /** Construct a copy of a row, which can be changed or read on another thread while the original is only read. */
+    TerminalRow(TerminalRow row) {
+        mColumns = row.mColumns;
+        mText = row.mText.clone();
+        mSpaceUsed = row.mSpaceUsed;
+        mLineWrap = row.mLineWrap;
+        if (row.mStyle != null) mStyle = row.mStyle.clone();
+        // The runs are replaced instead of modified, so they can be shared:
+        mRunStyles = row.mRunStyles;
+        mRunEnds = row.mRunEnds;
+        mFillStyle = row.mFillStyle;
+        mHasSingleStyle = row.mHasSingleStyle;
+        mHasNonOneWidthOrSurrogateChars = row.mHasNonOneWidthOrSurrogateChars;
+    }
+
     /** NOTE: The sourceX2 is exclusive. */
     public void copyInterval(TerminalRow line, int sourceX1, int sourceX2, int destinationX) {
+        if (!mHasNonOneWidthOrSurrogateChars && !line.mHasNonOneWidthOrSurrogateChars && line != this) {
+            // Each char occupies one column in both rows, so the cells can be copied in bulk.
+            System.arraycopy(line.mText, sourceX1, mText, destinationX, sourceX2 - sourceX1);
+            for (int column = sourceX1, endOfRun; column < sourceX2; column = endOfRun) {
+                endOfRun = Math.min(line.findEndOfStyleRun(column), sourceX2);
+                setStyle(destinationX + column - sourceX1, destinationX + endOfRun - sourceX1, line.getStyle(column));
+            }
+            return;
+        }
         mHasNonOneWidthOrSurrogateChars |= line.mHasNonOneWidthOrSurrogateChars;
         final int x1 = line.findStartOfColumn(sourceX1);
         final int x2 = line.findStartOfColumn(sourceX2);
@@ -65,66 +113,71 @@ public final class TerminalRow {
     /** Note that the column may end of second half of wide character. */
     public int findStartOfColumn(int column) {
         if (column == mColumns) return getSpaceUsed();
-
-        int currentColumn = 0;
-        int currentCharIndex = 0;
-        while (true) { // 0<2 1 < 2
-            int newCharIndex = currentCharIndex;
-            char c = mText[newCharIndex++]; // cci=1, cci=2
-            boolean isHigh = Character.isHighSurrogate(c);
-            int codePoint = isHigh ? Character.toCodePoint(c, mText[newCharIndex++]) : c;
-            int wcwidth = WcWidth.width(codePoint); // 1, 2
-            if (wcwidth > 0) {
-                currentColumn += wcwidth;
-                if (currentColumn == column) {
-                    while (newCharIndex < mSpaceUsed) {
-                        // Skip combining chars.
-                        if (Character.isHighSurrogate(mText[newCharIndex])) {
-                            if (WcWidth.width(Character.toCodePoint(mText[newCharIndex], mText[newCharIndex + 1])) <= 0) {
-                                newCharIndex += 2;
-                            } else {
-                                break;
-                            }
-                        } else if (WcWidth.width(mText[newCharIndex]) <= 0) {
-                            newCharIndex++;
-                        } else {
-                            break;
-                        }
-                    }
-                    return newCharIndex;
-                } else if (currentColumn > column) {
-                    // Wide column going past end.
-                    return currentCharIndex;
-                }
-            }
-            currentCharIndex = newCharIndex;
-        }
+        if (!mHasNonOneWidthOrSurrogateChars) return column;
+        return columnIndex(column);
     }
 
     private boolean wideDisplayCharacterStartingAt(int column) {
-        for (int currentCharIndex = 0, currentColumn = 0; currentCharIndex < mSpaceUsed; ) {
-            char c = mText[currentCharIndex++];
-            int codePoint = Character.isHighSurrogate(c) ? Character.toCodePoint(c, mText[currentCharIndex++]) : c;
+        if (!mHasNonOneWidthOrSurrogateChars || column < 0 || column + 1 >= mColumns) return false;
+        final int nextColumnIndex = columnIndex(column + 1);
+        return nextColumnIndex < mSpaceUsed && nextColumnIndex == mColumnIndex[column];
+    }
+
+    private int columnIndex(int column) {
+        if (column >= mValidColumns) buildColumnIndex(column);
+        return mColumnIndex[column];
+    }
+
+    /** Extend the up to date part of {@link #mColumnIndex} to include the specified column. */
+    private void buildColumnIndex(int column) {
+        if (mColumnIndex == null) mColumnIndex = new short[mColumns];
+        final short[] index = mColumnIndex;
+        final char[] text = mText;
+        // Resume from the start of the char occupying the last up to date column.
+        int currentColumn = mValidColumns;
+        int currentCharIndex = 0;
+        if (currentColumn > 0) {
+            currentColumn--;
+            if (currentColumn > 0 && index[currentColumn - 1] == index[currentColumn]) currentColumn--;
+            currentCharIndex = index[currentColumn];
+        }
+        while (currentColumn <= column) {
+            if (currentCharIndex >= mSpaceUsed) {
+                // Only for rows not filling all columns, which should not happen.
+                Arrays.fill(index, currentColumn, mColumns, mSpaceUsed);
+                currentColumn = mColumns;
+                break;
+            }
+            final int charIndex = currentCharIndex;
+            char c = text[currentCharIndex++];
+            int codePoint = Character.isHighSurrogate(c) ? Character.toCodePoint(c, text[currentCharIndex++]) : c;
             int wcwidth = WcWidth.width(codePoint);
             if (wcwidth > 0) {
-                if (currentColumn == column && wcwidth == 2) return true;
-                currentColumn += wcwidth;
-                if (currentColumn > column) return false;
+                // Chars with zero width are skipped, so they stay part of the column before them.
+                index[currentColumn++] = (short) charIndex;
+                if (wcwidth == 2 && currentColumn < mColumns) index[currentColumn++] = (short) charIndex;
             }
         }
-        return false;
+        mValidColumns = currentColumn;
+    }
+
+    /** Mark the entries in {@link #mColumnIndex} after the specified column as out of date. */
+    private void invalidateColumnIndexAfter(int column) {
+        if (mValidColumns > column + 1) mValidColumns = column + 1;
     }
 
     public void clear(long style) {
         Arrays.fill(mText, ' ');
-        Arrays.fill(mStyle, style);
+        fillStyles(style);
         mSpaceUsed = (short) mColumns;
         mHasNonOneWidthOrSurrogateChars = false;
+        mValidColumns = 0;
     }
 
     // https://github.com/steven676/Android-Terminal-Emulator/commit/9a47042620bec87617f0b4f5d50568535668fe26
     public void setChar(int columnToSet, int codePoint, long style) {
-        mStyle[columnToSet] = style;
+        final long[] styles = stylesToWrite(style);
+        if (styles != null) styles[columnToSet] = style;
 
         final int newCodePointDisplayWidth = WcWidth.width(codePoint);
 
@@ -171,11 +224,14 @@ public final class TerminalRow {
         if (newIsCombining) {
             // Combining characters are added to the contents of the column instead of overwriting them, so that they
             // modify the existing contents.
-            // FIXME: Put a limit of combining characters.
+            // The number of combining characters per cell is limited by TerminalEmulator.setMaxCombiningCharsPerCell().
             // FIXME: Unassigned characters also get width=0.
             newCharactersUsedForColumn += oldCharactersUsedForColumn;
         }
 
+        // Nothing before this column moves, but everything after it may.
+        invalidateColumnIndexAfter(columnToSet);
+
         int oldNextColumnIndex = oldStartOfColumnIndex + oldCharactersUsedForColumn;
         int newNextColumnIndex = oldStartOfColumnIndex + newCharactersUsedForColumn;
 
@@ -234,6 +290,144 @@ public final class TerminalRow {
         }
     }
 
+    /** The number of code points with zero width following the char occupying the specified column. */
+    public int getCombiningCodePointCount(int column) {
+        if (!mHasNonOneWidthOrSurrogateChars) return 0;
+        if (wideDisplayCharacterStartingAt(column - 1)) column--;
+        final int startIndex = findStartOfColumn(column);
+        final int endColumn = column + WcWidth.width(mText, startIndex);
+        final int endIndex = (endColumn < mColumns) ? findStartOfColumn(endColumn) : mSpaceUsed;
+        return Math.max(0, Character.codePointCount(mText, startIndex, endIndex - startIndex) - 1);
+    }
+
+    /** Set a run of printable ASCII bytes starting at the specified column. See {@link #setChar(int, int, long)}. */
+    public void setChars(int columnToSet, byte[] ascii, int offset, int length, long style) {
+        if (mHasNonOneWidthOrSurrogateChars) {
+            // Wide chars may be partially overwritten, so let setChar() deal with it.
+            for (int i = 0; i < length; i++)
+                setChar(columnToSet + i, ascii[offset + i], style);
+            return;
+        }
+        final char[] text = mText;
+        for (int i = 0; i < length; i++)
+            text[columnToSet + i] = (char) ascii[offset + i];
+        setStyle(columnToSet, columnToSet + length, style);
+    }
+
+    /**
+     * Fill the columns from startColumn (inclusive) to endColumn (exclusive) with a code point, as by calling
+     * {@link #setChar(int, int, long)} for each column but without going through the width logic for each cell when
+     * the row only contains single width chars.
+     */
+    public void fill(int startColumn, int endColumn, int codePoint, long style) {
+        if (startColumn >= endColumn) return;
+        final boolean singleWidthChar = codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT && WcWidth.width(codePoint) == 1;
+        if (singleWidthChar && startColumn == 0 && endColumn == mColumns) {
+            // The whole row is overwritten, so nothing needs to be kept from it.
+            Arrays.fill(mText, 0, mColumns, (char) codePoint);
+            fillStyles(style);
+            mSpaceUsed = (short) mColumns;
+            mHasNonOneWidthOrSurrogateChars = false;
+            mValidColumns = 0;
+        } else if (singleWidthChar && !mHasNonOneWidthOrSurrogateChars) {
+            Arrays.fill(mText, startColumn, endColumn, (char) codePoint);
+            setStyle(startColumn, endColumn, style);
+        } else {
+            for (int column = startColumn; column < endColumn; column++)
+                setChar(column, codePoint, style);
+        }
+    }
+
+    /**
+     * Insert blank cells at a column, shifting the cells up to endColumn (exclusive) right and dropping those shifted
+     * past it. Done in place without going through {@link #copyInterval(TerminalRow, int, int, int)}.
+     *
+     * @param column    the column where the blank cells are inserted.
+     * @param endColumn the column after the last one affected.
+     * @param count     the number of cells to insert.
+     * @param style     the style of the inserted cells.
+     */
+    public void insertCells(int column, int endColumn, int count, long style) {
+        count = Math.min(count, endColumn - column);
+        if (count <= 0) return;
+        final int keptEnd = endColumn - count;
+        if (!mHasNonOneWidthOrSurrogateChars) {
+            System.arraycopy(mText, column, mText, column + count, keptEnd - column);
+            Arrays.fill(mText, column, column + count, ' ');
+        } else {
+            // Wide chars crossing a boundary would be torn apart, so replace them with spaces first.
+            splitWideCharacterAt(column);
+            splitWideCharacterAt(keptEnd);
+            splitWideCharacterAt(endColumn);
+            final int startIndex = findStartOfColumn(column);
+            final int keptEndIndex = findStartOfColumn(keptEnd);
+            final int endIndex = findStartOfColumn(endColumn);
+            final int difference = count - (endIndex - keptEndIndex);
+            invalidateColumnIndexAfter(column);
+            ensureCapacity(mSpaceUsed + difference);
+            final char[] text = mText;
+            System.arraycopy(text, endIndex, text, keptEndIndex + count, mSpaceUsed - endIndex);
+            System.arraycopy(text, startIndex, text, startIndex + count, keptEndIndex - startIndex);
+            Arrays.fill(text, startIndex, startIndex + count, ' ');
+            mSpaceUsed += difference;
+        }
+        final long[] styles = stylesToWrite(style);
+        if (styles == null) return;
+        System.arraycopy(styles, column, styles, column + count, keptEnd - column);
+        Arrays.fill(styles, column, column + count, style);
+    }
+
+    /**
+     * Delete the cells at a column, shifting the cells up to endColumn (exclusive) left and filling the vacated cells at
+     * the end with blanks. Done in place without going through {@link #copyInterval(TerminalRow, int, int, int)}.
+     *
+     * @param column    the first column to delete.
+     * @param endColumn the column after the last one affected.
+     * @param count     the number of cells to delete.
+     * @param style     the style of the blank cells at the end.
+     */
+    public void deleteCells(int column, int endColumn, int count, long style) {
+        count = Math.min(count, endColumn - column);
+        if (count <= 0) return;
+        final int movedStart = column + count;
+        final int blankStart = endColumn - count;
+        if (!mHasNonOneWidthOrSurrogateChars) {
+            System.arraycopy(mText, movedStart, mText, column, endColumn - movedStart);
+            Arrays.fill(mText, blankStart, endColumn, ' ');
+        } else {
+            // Wide chars crossing a boundary would be torn apart, so replace them with spaces first.
+            splitWideCharacterAt(column);
+            splitWideCharacterAt(movedStart);
+            splitWideCharacterAt(endColumn);
+            final int startIndex = findStartOfColumn(column);
+            final int movedStartIndex = findStartOfColumn(movedStart);
+            final int endIndex = findStartOfColumn(endColumn);
+            final int difference = count - (movedStartIndex - startIndex);
+            invalidateColumnIndexAfter(column);
+            ensureCapacity(mSpaceUsed + difference);
+            final char[] text = mText;
+            final int blankStartIndex = startIndex + (endIndex - movedStartIndex);
+            System.arraycopy(text, movedStartIndex, text, startIndex, endIndex - movedStartIndex);
+            System.arraycopy(text, endIndex, text, blankStartIndex + count, mSpaceUsed - endIndex);
+            Arrays.fill(text, blankStartIndex, blankStartIndex + count, ' ');
+            mSpaceUsed += difference;
+        }
+        final long[] styles = stylesToWrite(style);
+        if (styles == null) return;
+        System.arraycopy(styles, movedStart, styles, column, endColumn - movedStart);
+        Arrays.fill(styles, blankStart, endColumn, style);
+    }
+
+    /** Replace a wide character occupying both the column before and the specified column with spaces. */
+    private void splitWideCharacterAt(int column) {
+        if (column > 0 && column < mColumns && wideDisplayCharacterStartingAt(column - 1))
+            setChar(column - 1, ' ', getStyle(column - 1));
+    }
+
+    private void ensureCapacity(int length) {
+        if (length > mText.length) mText = Arrays.copyOf(mText, Math.max(length, mText.length + mColumns));
+    }
+
     boolean isBlank() {
         for (int charIndex = 0, charLen = getSpaceUsed(); charIndex < charLen; charIndex++)
             if (mText[charIndex] != ' ') return false;
@@ -241,7 +435,155 @@ public final class TerminalRow {
     }
 
     public final long getStyle(int column) {
-        return mStyle[column];
+        final long[] styles = mStyle;
+        if (styles != null) return styles[column];
+
+        final short[] runEnds = mRunEnds;
+        if (runEnds == null) return mFillStyle;
+        return mRunStyles[findRun(runEnds, column)];
+    }
+
+    /**
+     * The run in {@link #mRunEnds} which includes the specified column, searched from {@link #mLastRun}. That is only a
+     * hint, which threads reading a row shared by {@link TerminalBuffer#shareRows} may change at the same time.
+     */
+    private int findRun(short[] runEnds, int column) {
+        int run = mLastRun;
+        if (run >= runEnds.length || (run > 0 && column < runEnds[run - 1])) run = 0;
+        while (column >= runEnds[run]) run++;
+        mLastRun = run;
+        return run;
+    }
+
+    void setStyle(int column, long style) {
+        final long[] styles = stylesToWrite(style);
+        if (styles != null) styles[column] = style;
+    }
+
+    /** Set the style of the cells from startColumn (inclusive) to endColumn (exclusive). */
+    void setStyle(int startColumn, int endColumn, long style) {
+        final long[] styles = stylesToWrite(style);
+        if (styles != null) Arrays.fill(styles, startColumn, endColumn, style);
+    }
+
+    /** The column after the last cell of the run of cells with the same style which includes the specified column. */
+    int findEndOfStyleRun(int column) {
+        if (mHasSingleStyle) return mColumns;
+        final long[] styles = mStyle;
+        if (styles == null) {
+            final short[] runEnds = mRunEnds;
+            return (runEnds == null) ? mColumns : runEnds[findRun(runEnds, column)];
+        }
+        final long style = styles[column];
+        int endColumn = column + 1;
+        while (endColumn < mColumns && styles[endColumn] == style)
+            endColumn++;
+        return endColumn;
+    }
+
+    /**
+     * Replace the contents of the row with text padded with spaces up to the specified number of chars, and a single style
+     * for all cells. Used when unpacking rows, see {@link PackedTranscript}.
+     */
+    void setContents(char[] text, int length, int spaceUsed, boolean hasNonOneWidthOrSurrogateChars, long style) {
+        ensureCapacity(spaceUsed);
+        System.arraycopy(text, 0, mText, 0, length);
+        Arrays.fill(mText, length, spaceUsed, ' ');
+        mSpaceUsed = (short) spaceUsed;
+        mHasNonOneWidthOrSurrogateChars = hasNonOneWidthOrSurrogateChars;
+        mValidColumns = 0;
+        fillStyles(style);
+    }
+
+    /**
+     * The style of each cell for writing a style to as {@link #styles(long)}, or null if all cells already have that style
+     * without the style of each cell being stored, so that there is nothing to write.
+     */
+    private long[] stylesToWrite(long style) {
+        if (mStyle == null && mRunEnds == null && style == mFillStyle) return null;
+        return styles(style);
+    }
+
+    /** The style of each cell for writing a style to, restored from the runs if the row has been compacted. */
+    private long[] styles(long style) {
+        if (mStyle == null) expandStyles(new long[mColumns]);
+        if (style != mFillStyle) mHasSingleStyle = false;
+        return mStyle;
+    }
+
+    private void expandStyles(long[] styles) {
+        if (mRunEnds == null) {
+            Arrays.fill(styles, mFillStyle);
+        } else {
+            for (int run = 0, start = 0; run < mRunStyles.length; start = mRunEnds[run++])
+                Arrays.fill(styles, start, mRunEnds[run], mRunStyles[run]);
+        }
+        mHasSingleStyle = (mRunEnds == null);
+        mStyle = styles;
+        mRunStyles = null;
+        mRunEnds = null;
+        mLastRun = 0;
+    }
+
+    /** Set the style of all cells without restoring the style of each cell if the row has been compacted. */
+    private void fillStyles(long style) {
+        if (mStyle != null) {
+            Arrays.fill(mStyle, style);
+        } else {
+            mRunStyles = null;
+            mRunEnds = null;
+            mLastRun = 0;
+        }
+        mFillStyle = style;
+        mHasSingleStyle = true;
+    }
+
+    /**
+     * Store the styles as runs of cells with the same style instead of one per cell, and drop the cached column index.
+     * This saves most of the memory of rows which are not expected to change, such as those in the scroll history. A row
+     * which is mutated again goes back to storing the style of each cell.
+     *
+     * @return the no longer used array with the style of each cell, for reuse by {@link #clear(long, long[])}, or null.
+     */
+    long[] compactStyles() {
+        final long[] styles = mStyle;
+        if (styles == null) return null;
+        int runs = 1;
+        if (!mHasSingleStyle) {
+            for (int column = 1; column < mColumns; column++)
+                if (styles[column] != styles[column - 1]) runs++;
+        }
+        if (runs == 1) {
+            mFillStyle = styles[0];
+            mHasSingleStyle = true;
+        } else {
+            final long[] runStyles = new long[runs];
+            final short[] runEnds = new short[runs];
+            for (int column = 1, run = 0; column <= mColumns; column++) {
+                if (column == mColumns || styles[column] != styles[column - 1]) {
+                    runStyles[run] = styles[column - 1];
+                    runEnds[run++] = (short) column;
+                }
+            }
+            mRunStyles = runStyles;
+            mRunEnds = runEnds;
+        }
+        mLastRun = 0;
+        mStyle = null;
+        mColumnIndex = null;
+        mValidColumns = 0;
+        return styles;
+    }
+
+    /** Clear the row as {@link #clear(long)}, reusing an array returned by {@link #compactStyles()} if compacted. */
+    void clear(long style, long[] styles) {
+        if (mStyle == null && styles != null && styles.length == mColumns) {
+            mStyle = styles;
+            mRunStyles = null;
+            mRunEnds = null;
+            mLastRun = 0;
+        }
+        clear(style);
     }
 
 }
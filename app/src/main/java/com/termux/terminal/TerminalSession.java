@@ -2,11 +2,14 @@ package com.termux.terminal;
 
 import android.annotation.SuppressLint;
 import android.os.Handler;
+import android.os.HandlerThread;
 import android.os.Message;
+import android.os.SystemClock;
 import android.system.ErrnoException;
 import android.system.Os;
 import android.system.OsConstants;
 import android.util.Log;
+import android.view.Choreographer;
 
 import java.io.File;
 import java.io.FileDescriptor;
@@ -17,6 +20,7 @@ import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import android.graphics.Bitmap;
 
 /**
@@ -24,7 +28,14 @@ import android.graphics.Bitmap;
  * <p>
  * The subprocess will be executed by the constructor, and when the size is made known by a call to
  * {@link #updateSize(int, int)} terminal emulation will begin and threads will be spawned to handle the subprocess I/O.
- * All terminal emulation and callback methods will be performed on the main thread.
+ * Output of the process is emulated on a thread of its own, in batches at the display frames of that thread, see
+ * {@link #setEmulationFrameBudget(int)}. After each batch a {@link ScreenSnapshot} is published for drawing, see
+ * {@link #getScreenSnapshot()}, so that the main thread, on which all callback methods are performed, only handles
+ * input and drawing. The main buffer is reflowed on yet another thread when the number of columns changes, see
+ * {@link #updateSize(int, int)}.
+ * <p>
+ * The emulator is only modified while holding its lock, so the main thread has to synchronize on it when reading the
+ * buffer, see {@link #getEmulator()}.
  * <p>
  * The child process may be exited forcefully by using the {@link #finishIfRunning()} method.
  * <p>
@@ -68,22 +79,57 @@ public final class TerminalSession extends TerminalOutput {
     }
 
     private static final int MSG_NEW_INPUT = 1;
+    private static final int MSG_SCREEN_UPDATED = 2;
+    private static final int MSG_TITLE_CHANGED = 3;
     private static final int MSG_PROCESS_EXITED = 4;
+    private static final int MSG_REFLOW_FINISHED = 5;
+    private static final int MSG_CLIPBOARD_TEXT = 6;
+    private static final int MSG_BELL = 7;
+    private static final int MSG_COLORS_CHANGED = 8;
+    private static final int MSG_PROCESS_FINISHED = 9;
+
+    /**
+     * The longest time to keep emulating output after a wakeup when not emulating in frames, before publishing the
+     * screen and letting the main thread take the lock of the emulator, continuing in a new message.
+     */
+    private static final long INPUT_DRAIN_BUDGET_MILLIS = 8;
+    /** The default time to spend emulating output in each display frame, see {@link #setEmulationFrameBudget(int)}. */
+    public static final int DEFAULT_EMULATION_FRAME_BUDGET_MILLIS = 8;
+    /**
+     * The most frames in a row in which the screen is not updated because more than a screenful of output is queued, so
+     * that a flood of output still shows progress.
+     */
+    private static final int MAX_SKIPPED_FRAMES = 15;
+
+    /** The default number of rows kept of the main screen buffer, including the screen. */
+    public static final int DEFAULT_TRANSCRIPT_ROWS = 2000;
 
     public final String mHandle = UUID.randomUUID().toString();
 
     TerminalEmulator mEmulator;
 
     /**
-     * A queue written to from a separate thread when the process outputs, and read by main thread to process by
-     * terminal emulator.
+     * A queue written to from a separate thread when the process outputs, and read by the emulation thread to process
+     * by terminal emulator. Large enough for the reader to keep up while the emulation thread emulates, so that a
+     * wakeup finds many reads of output to batch into one screen update.
      */
-    final ByteQueue mProcessToTerminalIOQueue = new ByteQueue(4096);
+    final ByteQueue mProcessToTerminalIOQueue = new ByteQueue(64 * 1024);
     /**
-     * A queue written to from the main thread due to user interaction, and read by another thread which forwards by
+     * A queue written to from the main thread due to user interaction and from the emulation thread answering escape
+     * sequences, one at a time, see {@link #write(byte[], int, int)}, and read by another thread which forwards by
      * writing to the {@link #mTerminalFileDescriptor}.
      */
     final ByteQueue mTerminalToProcessIOQueue = new ByteQueue(4096);
+    /**
+     * Set by the thread reading from the process when it posts a {@link #MSG_NEW_INPUT}, and cleared by the emulation
+     * thread before draining {@link #mProcessToTerminalIOQueue}, so that a flood of output posts one message per drain.
+     */
+    final AtomicBoolean mNewInputPending = new AtomicBoolean();
+    /**
+     * Set by the emulation thread when it posts a {@link #MSG_SCREEN_UPDATED}, and cleared by the main thread before
+     * notifying the update, so that the screen is updated once for all the snapshots published in between.
+     */
+    final AtomicBoolean mScreenUpdatePending = new AtomicBoolean();
     /** Buffer to write translate code points into utf8 before writing to mTerminalToProcessIOQueue */
     private final byte[] mUtf8InputBuffer = new byte[5];
 
@@ -105,39 +151,265 @@ public final class TerminalSession extends TerminalOutput {
     /** Set by the application for user identification of session, not by terminal. */
     public String mSessionName = "Terminal";
 
+    /** The directory to keep a scrollback file in, or null to only keep the transcript in memory. */
+    private File mScrollbackDirectory;
+    /** The maximum size of the scrollback file in bytes, see {@link #setScrollbackDirectory(File, long)}. */
+    private long mScrollbackMaxBytes;
+    /** The rows which no longer fit in the transcript, if {@link #mScrollbackDirectory} was set. */
+    private ScrollbackFile mScrollbackFile;
+    /** The number of rows kept of the main screen buffer, see {@link #setTranscriptRows(int)}. */
+    private int mTranscriptRows = DEFAULT_TRANSCRIPT_ROWS;
+
+    /**
+     * The reflow of the main buffer running on another thread, during which the emulator is not modified, or null. Only
+     * set on the main thread, while holding the lock of the emulator.
+     */
+    private TerminalEmulator.Reflow mReflow;
+    /** The size most recently passed to {@link #updateSize(int, int)}, resized to again after a reflow. */
+    private int mRequestedColumns, mRequestedRows;
+    /** A {@link #MSG_PROCESS_EXITED} message to handle after the reflow in progress, see {@link #finishReflow()}. */
+    private Message mProcessExitedMessage;
+
+    /** The number of times the emulation thread was woken up to emulate output, and the number of bytes it emulated. */
+    private long mInputWakeups, mInputBytes;
+    /** The number of screen updates notified in the second from {@link #mScreenUpdateSecondStart} and the last one. */
+    private int mScreenUpdatesThisSecond, mScreenUpdatesLastSecond;
+    private long mScreenUpdateSecondStart;
+
+    /** The thread emulating the output of the process, woken up through {@link #mEmulationHandler}. */
+    private HandlerThread mEmulationThread;
+    private Handler mEmulationHandler;
+    /** Buffer to read output into from {@link #mProcessToTerminalIOQueue} while holding the lock of the emulator. */
+    private final byte[] mReceiveBuffer = new byte[4 * 1024];
+    /** The time to spend emulating output in each frame, or 0 to emulate it on each wakeup instead. */
+    private volatile int mEmulationFrameBudgetMillis = DEFAULT_EMULATION_FRAME_BUDGET_MILLIS;
+    /** The choreographer of the emulation thread, once output has been emulated in a frame. */
+    private Choreographer mChoreographer;
+    /**
+     * If {@link #mEmulationFrameCallback} is posted, during which {@link #mNewInputPending} stays set so that output
+     * arriving before the frame does not post wakeups.
+     */
+    private boolean mEmulationFramePosted;
+    /** The number of frames in a row in which output was emulated without updating the screen. */
+    private int mSkippedFrames;
+
+    /** The latest snapshot of the screen, see {@link #getScreenSnapshot()}. */
+    private volatile ScreenSnapshot mScreenSnapshot;
+    /** The total number of rows scrolled up by output, see {@link ScreenSnapshot#mScrolledRows}. */
+    private long mScrolledRows;
+    /** The top row to include in snapshots, see {@link #setScreenSnapshotTopRow(long)}. */
+    private volatile long mScreenSnapshotTopRow = Long.MAX_VALUE;
+
+    private final Choreographer.FrameCallback mEmulationFrameCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            mEmulationFramePosted = false;
+            if (mEmulationFrameBudgetMillis == 0) {
+                mEmulationHandler.sendEmptyMessage(MSG_NEW_INPUT);
+                return;
+            }
+
+            synchronized (mEmulator) {
+                // Leave the emulator alone while its main buffer is reflowed, finishReflow() posts a new wakeup.
+                if (mReflow != null) return;
+                mNewInputPending.set(false);
+                mInputWakeups++;
+                final boolean emulated = emulateOutput(SystemClock.uptimeMillis() + mEmulationFrameBudgetMillis,
+                    Integer.MAX_VALUE);
+                final int backlog = mProcessToTerminalIOQueue.available();
+                if (backlog > 0) {
+                    // Continue in the next frame, which needs no wakeup:
+                    mNewInputPending.set(true);
+                    postEmulationFrame();
+                    // A screen drawn now would be scrolled away by the next frame before it could be read:
+                    if (backlog > mEmulator.mRows * mEmulator.mColumns && mSkippedFrames < MAX_SKIPPED_FRAMES) {
+                        mSkippedFrames++;
+                        return;
+                    }
+                }
+                if (emulated || mSkippedFrames > 0) publishScreen();
+                mSkippedFrames = 0;
+            }
+        }
+    };
+
     @SuppressLint("HandlerLeak")
     final Handler mMainThreadHandler = new Handler() {
-        final byte[] mReceiveBuffer = new byte[4 * 1024];
+        @Override
+        public void handleMessage(Message msg) {
+            switch (msg.what) {
+                case MSG_SCREEN_UPDATED:
+                    // Cleared before notifying so that a snapshot published after the view has read the latest one
+                    // posts a new update.
+                    mScreenUpdatePending.set(false);
+                    notifyScreenUpdate();
+                    break;
+                case MSG_TITLE_CHANGED:
+                    mChangeCallback.onTitleChanged(TerminalSession.this);
+                    break;
+                case MSG_CLIPBOARD_TEXT:
+                    mChangeCallback.onClipboardText(TerminalSession.this, (String) msg.obj);
+                    break;
+                case MSG_BELL:
+                    mChangeCallback.onBell(TerminalSession.this);
+                    break;
+                case MSG_COLORS_CHANGED:
+                    mChangeCallback.onColorsChanged(TerminalSession.this);
+                    break;
+                case MSG_REFLOW_FINISHED:
+                    finishReflow();
+                    break;
+                case MSG_PROCESS_EXITED:
+                case MSG_PROCESS_FINISHED:
+                    if (mReflow != null) {
+                        // Handled after the output before it, which is kept in the queue during the reflow.
+                        mProcessExitedMessage = obtainMessage(MSG_PROCESS_EXITED, msg.obj);
+                    } else if (msg.what == MSG_PROCESS_EXITED) {
+                        // The emulation thread emulates the output left in the queue and posts MSG_PROCESS_FINISHED.
+                        mEmulationHandler.sendMessage(mEmulationHandler.obtainMessage(MSG_PROCESS_EXITED, msg.obj));
+                    } else {
+                        finishProcess((Integer) msg.obj);
+                    }
+                    break;
+            }
+        }
+    };
+
+    /**
+     * Close the queues once the output left in them when the process exited has been emulated, see
+     * {@link EmulationHandler#emulateExitOutput(Message)}, and show that the process has exited.
+     */
+    private void finishProcess(int exitCode) {
+        synchronized (mEmulator) {
+            cleanupResources(exitCode);
+        }
+        mChangeCallback.onSessionFinished(TerminalSession.this);
+
+        String exitDescription = "\r\n[Process completed";
+        if (exitCode > 0) {
+            // Non-zero process exit.
+            exitDescription += " (code " + exitCode + ")";
+        } else if (exitCode < 0) {
+            // Negated signal.
+            exitDescription += " (signal " + (-exitCode) + ")";
+        }
+        exitDescription += " - press Enter]";
+
+        byte[] bytesToWrite = exitDescription.getBytes(StandardCharsets.UTF_8);
+        synchronized (mEmulator) {
+            mEmulator.append(bytesToWrite, bytesToWrite.length);
+            takeScreenSnapshotLocked();
+        }
+        notifyScreenUpdate();
+    }
+
+    /**
+     * Handle the wakeups of the emulation thread by the thread reading from the process, the wakeups it posts to itself
+     * to continue, and the exit of the process forwarded by the main thread.
+     */
+    private final class EmulationHandler extends Handler {
+
+        EmulationHandler(HandlerThread thread) {
+            super(thread.getLooper());
+        }
 
         @Override
         public void handleMessage(Message msg) {
-            int bytesRead = mProcessToTerminalIOQueue.read(mReceiveBuffer, false);
-            if (bytesRead > 0) {
-                mEmulator.append(mReceiveBuffer, bytesRead);
-                notifyScreenUpdate();
+            switch (msg.what) {
+                case MSG_NEW_INPUT:
+                    emulateNewInput();
+                    break;
+                case MSG_PROCESS_EXITED:
+                    emulateExitOutput(msg);
+                    break;
             }
+        }
 
-            if (msg.what == MSG_PROCESS_EXITED) {
-                int exitCode = (Integer) msg.obj;
-                cleanupResources(exitCode);
-                mChangeCallback.onSessionFinished(TerminalSession.this);
-
-                String exitDescription = "\r\n[Process completed";
-                if (exitCode > 0) {
-                    // Non-zero process exit.
-                    exitDescription += " (code " + exitCode + ")";
-                } else if (exitCode < 0) {
-                    // Negated signal.
-                    exitDescription += " (signal " + (-exitCode) + ")";
-                }
-                exitDescription += " - press Enter]";
+        private void emulateNewInput() {
+            if (mEmulationFrameBudgetMillis > 0) {
+                postEmulationFrame();
+                return;
+            }
 
-                byte[] bytesToWrite = exitDescription.getBytes(StandardCharsets.UTF_8);
-                mEmulator.append(bytesToWrite, bytesToWrite.length);
-                notifyScreenUpdate();
+            synchronized (mEmulator) {
+                // Leave the emulator alone while its main buffer is reflowed, with the output kept in the queue. A
+                // pending wakeup stays set, finishReflow() posts a new one.
+                if (mReflow != null) return;
+                // Cleared before draining so that output queued after the last read posts a new wakeup.
+                mNewInputPending.set(false);
+                mInputWakeups++;
+                final long deadline = SystemClock.uptimeMillis() + INPUT_DRAIN_BUDGET_MILLIS;
+                if (emulateOutput(deadline, Integer.MAX_VALUE)) publishScreen();
             }
+            // Continue after letting the main thread take the lock if the output did not fit in the budget:
+            if (mProcessToTerminalIOQueue.available() > 0 && !mNewInputPending.getAndSet(true))
+                sendEmptyMessage(MSG_NEW_INPUT);
         }
-    };
+
+        /**
+         * Emulate the output in the queue when the process exited, which is the last output to be seen unless it was
+         * left behind in frames, and post {@link #MSG_PROCESS_FINISHED} to the main thread to close the queues. Output
+         * written after that is not waited for, as a background process which keeps the terminal open, such as
+         * {@code (sleep 1; yes) & exit}, may write it forever.
+         */
+        private void emulateExitOutput(Message msg) {
+            synchronized (mEmulator) {
+                if (mReflow != null) {
+                    // Sent again by finishReflow():
+                    mMainThreadHandler.sendMessage(mMainThreadHandler.obtainMessage(MSG_PROCESS_EXITED, msg.obj));
+                    return;
+                }
+                if (emulateOutput(Long.MAX_VALUE, mProcessToTerminalIOQueue.available())) takeScreenSnapshotLocked();
+            }
+            mMainThreadHandler.sendMessage(mMainThreadHandler.obtainMessage(MSG_PROCESS_FINISHED, msg.obj));
+        }
+    }
+
+    /**
+     * Emulate the output in the queue until it is empty, the deadline has passed or at least the byte limit has been
+     * read, returning whether any was.
+     */
+    private boolean emulateOutput(long deadline, int byteLimit) {
+        int totalBytesRead = 0;
+        int bytesRead;
+        while (totalBytesRead < byteLimit && (bytesRead = mProcessToTerminalIOQueue.read(mReceiveBuffer, false)) > 0) {
+            mEmulator.append(mReceiveBuffer, bytesRead);
+            totalBytesRead += bytesRead;
+            if (SystemClock.uptimeMillis() >= deadline) break;
+        }
+        mInputBytes += totalBytesRead;
+        return totalBytesRead > 0;
+    }
+
+    /**
+     * Take a snapshot of the screen as {@link #mScreenSnapshot} and post a screen update to the main thread, unless one
+     * is already pending. Must be called while holding the lock of the emulator.
+     */
+    private void publishScreen() {
+        takeScreenSnapshotLocked();
+        if (!mScreenUpdatePending.getAndSet(true)) mMainThreadHandler.sendEmptyMessage(MSG_SCREEN_UPDATED);
+    }
+
+    /** See {@link #takeScreenSnapshot()}, but must be called while holding the lock of the emulator. */
+    private ScreenSnapshot takeScreenSnapshotLocked() {
+        mScrolledRows += mEmulator.getScrollCounter();
+        mEmulator.clearScrollCounter();
+        final long topRow = mScreenSnapshotTopRow;
+        final int firstRow = (topRow == Long.MAX_VALUE) ? 0
+            : (int) Math.max(topRow - mScrolledRows, -mEmulator.getScreen().getActiveTranscriptRows());
+        return mScreenSnapshot = new ScreenSnapshot(mEmulator, firstRow, mScrolledRows);
+    }
+
+    /**
+     * Emulate the queued output right before the next display frame of the emulation thread, see
+     * {@link #mEmulationFrameCallback}.
+     */
+    private void postEmulationFrame() {
+        if (mEmulationFramePosted) return;
+        if (mChoreographer == null) mChoreographer = Choreographer.getInstance();
+        mEmulationFramePosted = true;
+        mChoreographer.postFrameCallback(mEmulationFrameCallback);
+    }
 
     private final String mShellPath;
     private final String mCwd;
@@ -153,14 +425,100 @@ public final class TerminalSession extends TerminalOutput {
         this.mEnv = env;
     }
 
-    /** Inform the attached pty of the new size and reflow or initialize the emulator. */
+    /**
+     * Inform the attached pty of the new size and reflow or initialize the emulator. If the number of columns changes, the
+     * main buffer is reflowed on another thread. Until the reflowed buffer replaces it, the old one is still drawn and
+     * the output of the process is kept in the queue.
+     */
     public void updateSize(int columns, int rows) {
         if (mEmulator == null) {
             initializeEmulator(columns, rows);
         } else {
             JNI.setPtyWindowSize(mTerminalFileDescriptor, rows, columns);
+            mRequestedColumns = columns;
+            mRequestedRows = rows;
+            // A reflow in progress resizes to the latest size once finished.
+            if (mReflow != null) return;
+            synchronized (mEmulator) {
+                resizeEmulator(columns, rows);
+                takeScreenSnapshotLocked();
+            }
+        }
+    }
+
+    /** Must be called while holding the lock of the emulator. */
+    private void resizeEmulator(int columns, int rows) {
+        final TerminalEmulator.Reflow reflow = mEmulator.startResize(columns, rows);
+        if (reflow == null) {
             mEmulator.resize(columns, rows);
+            return;
+        }
+        mReflow = reflow;
+        new Thread("TermSessionReflow[pid=" + mShellPid + "]") {
+            @Override
+            public void run() {
+                reflow.run();
+                mMainThreadHandler.sendEmptyMessage(MSG_REFLOW_FINISHED);
+            }
+        }.start();
+    }
+
+    /** Replace the main buffer with the reflowed one and process the output which arrived during the reflow. */
+    private void finishReflow() {
+        synchronized (mEmulator) {
+            mEmulator.finishResize(mReflow);
+            mReflow = null;
+            mEmulator.setTranscriptRows(mTranscriptRows);
+            resizeEmulator(mRequestedColumns, mRequestedRows);
+            takeScreenSnapshotLocked();
+        }
+        if (mReflow == null) {
+            mEmulationHandler.sendEmptyMessage(MSG_NEW_INPUT);
+            if (mProcessExitedMessage != null) {
+                mMainThreadHandler.sendMessage(mProcessExitedMessage);
+                mProcessExitedMessage = null;
+            }
         }
+        notifyScreenUpdate();
+    }
+
+    /**
+     * Keep the rows which no longer fit in the transcript in a memory-mapped file in the specified directory, such as the
+     * cache directory of the app, so that the history is not limited by the heap. Once the file reaches the maximum size
+     * no more rows are appended to it. Must be called before the first {@link #updateSize(int, int)}. The file is closed
+     * when the process exits, see {@link ScrollbackFile}.
+     */
+    public void setScrollbackDirectory(File directory, long maxBytes) {
+        if (maxBytes <= 0) throw new IllegalArgumentException("maxBytes=" + maxBytes);
+        mScrollbackDirectory = directory;
+        mScrollbackMaxBytes = maxBytes;
+    }
+
+    /**
+     * Set the number of rows kept of the main screen buffer, including the screen, which defaults to
+     * {@link #DEFAULT_TRANSCRIPT_ROWS}. Room for the rows is only taken as the history fills up. May be changed while
+     * running, keeping the most recent rows which still fit.
+     */
+    public void setTranscriptRows(int transcriptRows) {
+        if (transcriptRows < 1) throw new IllegalArgumentException("transcriptRows=" + transcriptRows);
+        mTranscriptRows = transcriptRows;
+        // A reflow in progress is followed by setting the number of rows of the reflowed buffer.
+        if (mEmulator == null || mReflow != null) return;
+        synchronized (mEmulator) {
+            mEmulator.setTranscriptRows(transcriptRows);
+        }
+    }
+
+    /**
+     * Set the time to spend emulating output in each display frame, which defaults to
+     * {@link #DEFAULT_EMULATION_FRAME_BUDGET_MILLIS}. Output is emulated on the emulation thread at each display frame,
+     * continuing in the following frames if it does not fit in the budget, during which the main thread waits to take
+     * the lock of the emulator. The screen is published at most once per frame and not while more than a screenful of
+     * output is queued. Zero emulates output as soon as it arrives instead.
+     */
+    public void setEmulationFrameBudget(int millis) {
+        if (millis < 0) throw new IllegalArgumentException("millis=" + millis);
+        mEmulationFrameBudgetMillis = millis;
     }
 
     /** The terminal title as set through escape sequences or null if none set. */
@@ -175,12 +533,14 @@ public final class TerminalSession extends TerminalOutput {
      * @param rows    The number of rows in the terminal window.
      */
     public void initializeEmulator(int columns, int rows) {
-        mEmulator = new TerminalEmulator(this, columns, rows, /* transcript= */2000);
+        createEmulator(columns, rows);
 
         int[] processId = new int[1];
         mTerminalFileDescriptor = JNI.createSubprocess(mShellPath, mCwd, mArgs, mEnv, processId, rows, columns);
         mShellPid = processId[0];
 
+        startEmulationThread("TermSessionEmulator[pid=" + mShellPid + "]");
+
         final FileDescriptor terminalFileDescriptorWrapped = wrapFileDescriptor(mTerminalFileDescriptor);
 
         new Thread("TermSessionInputReader[pid=" + mShellPid + "]") {
@@ -193,7 +553,7 @@ public final class TerminalSession extends TerminalOutput {
                         int read = termIn.read(buffer);
                         if (read == -1) return;
                         if (!mProcessToTerminalIOQueue.write(buffer, 0, read)) return;
-                        mMainThreadHandler.sendEmptyMessage(MSG_NEW_INPUT);
+                        notifyOutputQueued();
                     }
                 } catch (Exception e) {
                     // Ignore, just shutting down.
@@ -228,10 +588,45 @@ public final class TerminalSession extends TerminalOutput {
 
     }
 
-    /** Write data to the shell process. */
+    /** Create the emulator of {@link #initializeEmulator(int, int)}, before the process is started. */
+    void createEmulator(int columns, int rows) {
+        mEmulator = new TerminalEmulator(this, columns, rows, mTranscriptRows);
+        mRequestedColumns = columns;
+        mRequestedRows = rows;
+        if (mScrollbackDirectory != null) {
+            try {
+                mScrollbackFile = new ScrollbackFile(mScrollbackDirectory, mScrollbackMaxBytes);
+                mEmulator.setScrollbackFile(mScrollbackFile);
+            } catch (IOException e) {
+                Log.w(EmulatorDebug.LOG_TAG, "Unable to create scrollback file, keeping the transcript in memory only", e);
+            }
+        }
+        mScreenSnapshot = new ScreenSnapshot(mEmulator, 0, 0);
+    }
+
+    /**
+     * Start the thread emulating what is written to {@link #mProcessToTerminalIOQueue}, woken up through
+     * {@link #notifyOutputQueued()}.
+     */
+    void startEmulationThread(String name) {
+        mEmulationThread = new HandlerThread(name);
+        mEmulationThread.start();
+        mEmulationHandler = new EmulationHandler(mEmulationThread);
+    }
+
+    /** Wake up the emulation thread for output written to {@link #mProcessToTerminalIOQueue}, unless it already is. */
+    void notifyOutputQueued() {
+        if (!mNewInputPending.getAndSet(true)) mEmulationHandler.sendEmptyMessage(MSG_NEW_INPUT);
+    }
+
+    /** Write data to the shell process. May be called on the main thread and on the emulation thread. */
     @Override
     public void write(byte[] data, int offset, int count) {
-        if (mShellPid > 0) mTerminalToProcessIOQueue.write(data, offset, count);
+        if (mShellPid <= 0) return;
+        // The queue allows one writer at a time:
+        synchronized (mTerminalToProcessIOQueue) {
+            mTerminalToProcessIOQueue.write(data, offset, count);
+        }
     }
 
     /** Write the Unicode code point to the terminal encoded in UTF-8. */
@@ -271,18 +666,91 @@ public final class TerminalSession extends TerminalOutput {
         write(mUtf8InputBuffer, 0, bufferPosition);
     }
 
+    /**
+     * The emulator, which is modified on the emulation thread. Its buffer must only be read while holding its lock, as
+     * in synchronized (session.getEmulator()), which also keeps the emulation thread from changing it meanwhile. The
+     * screen is drawn from {@link #getScreenSnapshot()} instead.
+     */
     public TerminalEmulator getEmulator() {
         return mEmulator;
     }
 
+    /**
+     * The latest snapshot of the screen, published by the emulation thread before each {@link
+     * SessionChangedCallback#onTextChanged(TerminalSession)}, or null before {@link #updateSize(int, int)}. May be read
+     * on any thread without locking.
+     */
+    public ScreenSnapshot getScreenSnapshot() {
+        return mScreenSnapshot;
+    }
+
+    /**
+     * Take a snapshot of the screen now, such as when the rows to draw are not in {@link #getScreenSnapshot()}, waiting
+     * for the emulation thread to finish its batch of output. It also becomes the latest snapshot.
+     */
+    public ScreenSnapshot takeScreenSnapshot() {
+        synchronized (mEmulator) {
+            return takeScreenSnapshotLocked();
+        }
+    }
+
+    /**
+     * Include the rows of the transcript from the specified one in the snapshots taken from now on, or only the screen
+     * if {@link Long#MAX_VALUE}, which is the default. The row is given as a row of a snapshot plus its
+     * {@link ScreenSnapshot#mScrolledRows}, so that it stays on the same text while more output scrolls up.
+     */
+    public void setScreenSnapshotTopRow(long topRow) {
+        mScreenSnapshotTopRow = topRow;
+    }
+
     /** Notify the {@link #mChangeCallback} that the screen has changed. */
     protected void notifyScreenUpdate() {
+        updateScreenUpdateSecond(SystemClock.uptimeMillis());
+        mScreenUpdatesThisSecond++;
         mChangeCallback.onTextChanged(this);
     }
 
+    /** Move {@link #mScreenUpdateSecondStart} to the second containing the specified time. */
+    private void updateScreenUpdateSecond(long now) {
+        final long elapsed = now - mScreenUpdateSecondStart;
+        if (elapsed < 1000) return;
+        mScreenUpdatesLastSecond = (elapsed < 2000) ? mScreenUpdatesThisSecond : 0;
+        mScreenUpdatesThisSecond = 0;
+        mScreenUpdateSecondStart = now - elapsed % 1000;
+    }
+
+    /**
+     * The average number of bytes of process output emulated each time the emulation thread was woken up for it, which
+     * grows with the amount of output batched into one screen update.
+     */
+    public float getBytesPerWakeup() {
+        if (mEmulator == null) return 0;
+        synchronized (mEmulator) {
+            return (mInputWakeups == 0) ? 0 : (float) mInputBytes / mInputWakeups;
+        }
+    }
+
+    /** The number of screen updates notified during the last whole second. Must be called on the main thread. */
+    public int getScreenUpdatesPerSecond() {
+        updateScreenUpdateSecond(SystemClock.uptimeMillis());
+        return mScreenUpdatesLastSecond;
+    }
+
     /** Reset state for terminal emulator state. */
     public void reset() {
-        mEmulator.reset();
+        synchronized (mEmulator) {
+            mEmulator.reset();
+            takeScreenSnapshotLocked();
+        }
+        notifyScreenUpdate();
+    }
+
+    /** Reset the colors set through escape sequences, such as after {@link TerminalColors#COLOR_SCHEME} has changed. */
+    public void resetColors() {
+        synchronized (mEmulator) {
+            mEmulator.mColors.reset();
+            takeScreenSnapshotLocked();
+        }
         notifyScreenUpdate();
     }
 
@@ -304,15 +772,17 @@ public final class TerminalSession extends TerminalOutput {
             mShellExitStatus = exitStatus;
         }
 
-        // Stop the reader and writer threads, and close the I/O streams
+        // Stop the reader, writer and emulation threads, and close the I/O streams
         mTerminalToProcessIOQueue.close();
         mProcessToTerminalIOQueue.close();
+        mEmulationThread.quitSafely();
         JNI.close(mTerminalFileDescriptor);
+        if (mScrollbackFile != null) mScrollbackFile.close();
     }
 
     @Override
     public void titleChanged(String oldTitle, String newTitle) {
-        mChangeCallback.onTitleChanged(this);
+        mMainThreadHandler.sendEmptyMessage(MSG_TITLE_CHANGED);
     }
 
     public synchronized boolean isRunning() {
@@ -326,17 +796,17 @@ public final class TerminalSession extends TerminalOutput {
 
     @Override
     public void clipboardText(String text) {
-        mChangeCallback.onClipboardText(this, text);
+        mMainThreadHandler.sendMessage(mMainThreadHandler.obtainMessage(MSG_CLIPBOARD_TEXT, text));
     }
 
     @Override
     public void onBell() {
-        mChangeCallback.onBell(this);
+        mMainThreadHandler.sendEmptyMessage(MSG_BELL);
     }
 
     @Override
     public void onColorsChanged() {
-        mChangeCallback.onColorsChanged(this);
+        mMainThreadHandler.sendEmptyMessage(MSG_COLORS_CHANGED);
     }
 
     public int getPid() {
@@ -1,10 +1,16 @@
 package com.termux.terminal;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Implementation of wcwidth(3) for Unicode 9.
  *
  * Implementation from https://github.com/jquast/wcwidth but we return 0 for unprintable characters.
  *
+ * The interval tables below are compiled into the two-stage lookup table of {@link WcWidthTable} by
+ * WcWidthTableGenerator in the unit tests, so that the width of a code point is found with two array accesses instead
+ * of a binary search. Run it again after changing the interval tables.
+ *
  * IMPORTANT:
  * Must be kept in sync with the following:
  * https://github.com/termux/wcwidth
@@ -15,7 +21,7 @@ public final class WcWidth {
 
     // From https://github.com/jquast/wcwidth/blob/master/wcwidth/table_zero.py
     // at commit b29897e5a1b403a0e36f7fc991614981cbc42475 (2020-07-14):
-    private static final int[][] ZERO_WIDTH = {
+    static final int[][] ZERO_WIDTH = {
         {0x00300, 0x0036f},  // Combining Grave Accent  ..Combining Latin Small Le
         {0x00483, 0x00489},  // Combining Cyrillic Titlo..Combining Cyrillic Milli
         {0x00591, 0x005bd},  // Hebrew Accent Etnahta   ..Hebrew Point Meteg
@@ -344,7 +350,7 @@ public final class WcWidth {
 
     // https://github.com/jquast/wcwidth/blob/master/wcwidth/table_wide.py
     // at commit b29897e5a1b403a0e36f7fc991614981cbc42475 (2020-07-14):
-    private static final int[][] WIDE_EASTASIAN = {
+    static final int[][] WIDE_EASTASIAN = {
         {0x01100, 0x0115f},  // Hangul Choseong Kiyeok  ..Hangul Choseong Filler
         {0x0231a, 0x0231b},  // Watch                   ..Hourglass
         {0x02329, 0x0232a},  // Left-pointing Angle Brac..Right-pointing Angle Bra
@@ -464,46 +470,74 @@ public final class WcWidth {
     };
 
 
-    private static boolean intable(int[][] table, int c) {
-        // First quick check f|| Latin1 etc. characters.
-        if (c < table[0][0]) return false;
+    /** The number of code points covered by one block of {@link #BLOCK_PROPERTIES}. */
+    static final int BLOCK_SHIFT = 7;
+    static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
 
-        // Binary search in table.
-        int bot = 0;
-        int top = table.length - 1; // (int)(size / sizeof(struct interval) - 1);
-        while (top >= bot) {
-            int mid = (bot + top) / 2;
-            if (table[mid][1] < c) {
-                bot = mid + 1;
-            } else if (table[mid][0] > c) {
-                top = mid - 1;
-            } else {
-                return true;
-            }
-        }
-        return false;
-    }
+    /** Property bits holding the display width of a code point: 0, 1 or 2. */
+    static final int PROPERTY_WIDTH_MASK = 0b11;
+    /** Property bit set if the code point is a surrogate, or unassigned as checked by {@link #PROPERTY_CHECK_TYPE}. */
+    static final int PROPERTY_UNASSIGNED_OR_SURROGATE = 1 << 2;
+    /**
+     * Property bit set if the code point was unassigned when the table was generated, so that
+     * {@link Character#getType(int)} is checked at lookup time in case the Unicode version of the device assigns it.
+     */
+    static final int PROPERTY_CHECK_TYPE = 1 << 3;
+    /** Property bit set if the code point is a combining mark from {@link #ZERO_WIDTH}. */
+    static final int PROPERTY_COMBINING = 1 << 4;
 
-    /** Return the terminal display width of a code point: 0, 1 || 2. */
-    public static int width(int ucs) {
-        if (ucs == 0 ||
-            ucs == 0x034F ||
-            (0x200B <= ucs && ucs <= 0x200F) ||
-            ucs == 0x2028 ||
-            ucs == 0x2029 ||
-            (0x202A <= ucs && ucs <= 0x202E) ||
-            (0x2060 <= ucs && ucs <= 0x2063)) {
-            return 0;
-        }
+    /** Properties of the Latin-1 code points, for direct access without going through {@link #BLOCK_INDEX}. */
+    private static final byte[] LATIN1_PROPERTIES = new byte[256];
+
+    /**
+     * First stage of the property lookup: The number of the block in {@link #BLOCK_PROPERTIES} for each block of code
+     * points, plus {@link WcWidthTable#BLOCK_NUMBER_OFFSET}.
+     */
+    private static final char[] BLOCK_INDEX = concat(WcWidthTable.BLOCK_INDEX).toCharArray();
 
+    /**
+     * Second stage of the property lookup: The properties of all distinct blocks of code points, concatenated. The bit
+     * {@link WcWidthTable#PROPERTY_PRINTABLE_BIT} is set in all of them and ignored.
+     */
+    private static final byte[] BLOCK_PROPERTIES =
+        concat(WcWidthTable.BLOCK_PROPERTIES).getBytes(StandardCharsets.ISO_8859_1);
+
+    /** Code points with zero width in addition to those in {@link #ZERO_WIDTH}. */
+    static final int[][] ZERO_WIDTH_SPECIAL = {
         // C0/C1 control characters
         // Termux change: Return 0 instead of -1.
-        if (ucs < 32 || (0x07F <= ucs && ucs < 0x0A0)) return 0;
+        {0x0000, 0x001f},
+        {0x007f, 0x009f},
+        {0x034f, 0x034f},
+        {0x200b, 0x200f},
+        {0x2028, 0x202e},
+        {0x2060, 0x2063},
+    };
 
-        // combining characters with zero width
-        if (intable(ZERO_WIDTH, ucs)) return 0;
+    static {
+        for (int ucs = 0; ucs < LATIN1_PROPERTIES.length; ucs++) LATIN1_PROPERTIES[ucs] = lookUpProperties(ucs);
+    }
+
+    private static String concat(String[] literals) {
+        final StringBuilder result = new StringBuilder();
+        for (String literal : literals) result.append(literal);
+        return result.toString();
+    }
 
-        return intable(WIDE_EASTASIAN, ucs) ? 2 : 1;
+    private static byte lookUpProperties(int ucs) {
+        final int block = BLOCK_INDEX[ucs >> BLOCK_SHIFT] - WcWidthTable.BLOCK_NUMBER_OFFSET;
+        return BLOCK_PROPERTIES[(block << BLOCK_SHIFT) | (ucs & (BLOCK_SIZE - 1))];
+    }
+
+    private static int properties(int ucs) {
+        if (ucs < LATIN1_PROPERTIES.length) return (ucs < 0) ? PROPERTY_CHECK_TYPE : LATIN1_PROPERTIES[ucs];
+        if (ucs > Character.MAX_CODE_POINT) return 1 | PROPERTY_UNASSIGNED_OR_SURROGATE;
+        return lookUpProperties(ucs);
+    }
+
+    /** Return the terminal display width of a code point: 0, 1 || 2. */
+    public static int width(int ucs) {
+        return properties(ucs) & PROPERTY_WIDTH_MASK;
     }
 
     /** The width at an index position in a java char array. */
@@ -512,4 +546,17 @@ public final class WcWidth {
         return Character.isHighSurrogate(c) ? width(Character.toCodePoint(c, chars[index + 1])) : width(c);
     }
 
+    /** If a code point is unassigned or a surrogate, as by {@link Character#getType(int)}, and should not be displayed. */
+    public static boolean isUnassignedOrSurrogate(int ucs) {
+        final int properties = properties(ucs);
+        if ((properties & PROPERTY_CHECK_TYPE) == 0) return (properties & PROPERTY_UNASSIGNED_OR_SURROGATE) != 0;
+        final int type = Character.getType(ucs);
+        return type == Character.UNASSIGNED || type == Character.SURROGATE;
+    }
+
+    /** If a code point is a combining mark, which has zero width and is drawn on the preceding character. */
+    public static boolean isCombining(int ucs) {
+        return (properties(ucs) & PROPERTY_COMBINING) != 0;
+    }
+
 }
@@ -40,6 +40,8 @@ import android.widget.Toast;
 
 import com.termux.terminal.EmulatorDebug;
 import com.termux.terminal.KeyHandler;
+import com.termux.terminal.ScreenSnapshot;
+import com.termux.terminal.SearchQuery;
 import com.termux.terminal.TerminalBuffer;
 import com.termux.terminal.TerminalEmulator;
 import com.termux.terminal.TerminalSession;
@@ -60,8 +62,17 @@ public final class TerminalView extends View {
 
     /** The currently displayed terminal session, whose emulator is {@link #mEmulator}. */
     TerminalSession mTermSession;
-    /** Our terminal emulator whose session is {@link #mTermSession}. */
+    /**
+     * Our terminal emulator whose session is {@link #mTermSession}, modified on the emulation thread of the session.
+     * Its buffer is only read while holding its lock, see {@link TerminalSession#getEmulator()}.
+     */
     TerminalEmulator mEmulator;
+    /**
+     * The snapshot of the screen of {@link #mEmulator} which is drawn, and which {@link #mTopRow}, the selection and
+     * the search match refer to. Replaced by a newer one on {@link #onScreenUpdated()}, see
+     * {@link #followScrolledRows}.
+     */
+    ScreenSnapshot mSnapshot;
 
     TerminalRenderer mRenderer;
 
@@ -70,6 +81,9 @@ public final class TerminalView extends View {
     /** The top row of text to display. Ranges from -activeTranscriptRows to 0. */
     int mTopRow;
 
+    /** The (row, column) of the first and the last cell of the search match shown, or null. See {@link #findNext}. */
+    int[] mSearchMatch;
+
     boolean mIsSelectingText = false;
     int mSelX1 = -1, mSelX2 = -1, mSelY1 = -1, mSelY2 = -1;
     private ActionMode mActionMode;
@@ -172,7 +186,7 @@ public final class TerminalView extends View {
                 if (mouseTrackingAtStartOfFling) {
                     mScroller.fling(0, 0, 0, -(int) (velocityY * SCALE), 0, 0, -mEmulator.mRows / 2, mEmulator.mRows / 2);
                 } else {
-                    mScroller.fling(0, mTopRow, 0, -(int) (velocityY * SCALE), 0, 0, -mEmulator.getScreen().getActiveTranscriptRows(), 0);
+                    mScroller.fling(0, mTopRow, 0, -(int) (velocityY * SCALE), 0, 0, -mSnapshot.mActiveTranscriptRows, 0);
                 }
 
                 post(new Runnable() {
@@ -239,9 +253,11 @@ public final class TerminalView extends View {
     public boolean attachSession(TerminalSession session) {
         if (session == mTermSession) return false;
         mTopRow = 0;
+        mSearchMatch = null;
 
         mTermSession = session;
         mEmulator = null;
+        mSnapshot = null;
         mCombiningAccent = 0;
 
         updateSize();
@@ -384,7 +400,7 @@ public final class TerminalView extends View {
 
     @Override
     protected int computeVerticalScrollRange() {
-        return mEmulator == null ? 1 : mEmulator.getScreen().getActiveRows();
+        return mEmulator == null ? 1 : mSnapshot.mActiveTranscriptRows + mSnapshot.mRows;
     }
 
     @Override
@@ -394,19 +410,21 @@ public final class TerminalView extends View {
 
     @Override
     protected int computeVerticalScrollOffset() {
-        return mEmulator == null ? 1 : mEmulator.getScreen().getActiveRows() + mTopRow - mEmulator.mRows;
+        return mEmulator == null ? 1 : mSnapshot.mActiveTranscriptRows + mTopRow;
     }
 
     public void onScreenUpdated() {
         if (mEmulator == null) return;
 
-        int rowsInHistory = mEmulator.getScreen().getActiveTranscriptRows();
+        final ScreenSnapshot snapshot = mTermSession.getScreenSnapshot();
+        final int rowShift = (int) (snapshot.mScrolledRows - mSnapshot.mScrolledRows);
+        mSnapshot = snapshot;
+        int rowsInHistory = snapshot.mActiveTranscriptRows;
         if (mTopRow < -rowsInHistory) mTopRow = -rowsInHistory;
 
         boolean skipScrolling = false;
         if (mIsSelectingText) {
             // Do not scroll when selecting text.
-            int rowShift = mEmulator.getScrollCounter();
             if (-mTopRow + rowShift > rowsInHistory) {
                 // .. unless we're hitting the end of history transcript, in which
                 // case we abort text selection and scroll to end.
@@ -430,7 +448,12 @@ public final class TerminalView extends View {
             mTopRow = 0;
         }
 
-        mEmulator.clearScrollCounter();
+        if (mSearchMatch != null) {
+            // Keep the search match on the same text as it scrolls up into the history.
+            mSearchMatch[0] -= rowShift;
+            mSearchMatch[2] -= rowShift;
+            if (mSearchMatch[0] < -rowsInHistory) mSearchMatch = null;
+        }
 
         invalidate();
         if (mAccessibilityEnabled) setContentDescription(getText());
@@ -491,7 +514,7 @@ public final class TerminalView extends View {
                 // e.g. less, which shifts to the alt screen without mouse handling.
                 handleKeyCode(up ? KeyEvent.KEYCODE_DPAD_UP : KeyEvent.KEYCODE_DPAD_DOWN, 0);
             } else {
-                mTopRow = Math.min(0, Math.max(-(mEmulator.getScreen().getActiveTranscriptRows()), mTopRow + (up ? -1 : 1)));
+                mTopRow = Math.min(0, Math.max(-mSnapshot.mActiveTranscriptRows, mTopRow + (up ? -1 : 1)));
                 if (!awakenScrollBars()) invalidate();
             }
         }
@@ -754,8 +777,10 @@ public final class TerminalView extends View {
         if (mEmulator == null || (newColumns != mEmulator.mColumns || newRows != mEmulator.mRows)) {
             mTermSession.updateSize(newColumns, newRows);
             mEmulator = mTermSession.getEmulator();
+            mSnapshot = mTermSession.getScreenSnapshot();
 
             mTopRow = 0;
+            mSearchMatch = null;
             scrollTo(0, 0);
             invalidate();
         }
@@ -766,7 +791,17 @@ public final class TerminalView extends View {
         if (mEmulator == null) {
             canvas.drawColor(0XFF000000);
         } else {
-            mRenderer.render(mEmulator, canvas, mTopRow, mSelY1, mSelY2, mSelX1, mSelX2);
+            // Have the snapshots published from now on include the rows shown, and take one now if the latest does not:
+            final boolean followingOutput = mTopRow == 0 && !mIsSelectingText;
+            mTermSession.setScreenSnapshotTopRow(followingOutput ? Long.MAX_VALUE : mSnapshot.mScrolledRows + mTopRow);
+            if (!mSnapshot.hasRows(mTopRow)) followScrolledRows(mTermSession.takeScreenSnapshot());
+
+            if (mSearchMatch != null && !mIsSelectingText) {
+                // Show the search match as selected.
+                mRenderer.render(mSnapshot, canvas, mTopRow, mSearchMatch[0], mSearchMatch[2], mSearchMatch[1], mSearchMatch[3]);
+            } else {
+                mRenderer.render(mSnapshot, canvas, mTopRow, mSelY1, mSelY2, mSelX1, mSelX2);
+            }
 
 
             SelectionModifierCursorController selectionController = getSelectionController();
@@ -783,30 +818,108 @@ public final class TerminalView extends View {
         final boolean eventFromMouse = ev.isFromSource(InputDevice.SOURCE_MOUSE);
         // Offset for finger:
         final int SELECT_TEXT_OFFSET_Y = eventFromMouse ? 0 : -40;
-        int cy = (int) ((ev.getY() + SELECT_TEXT_OFFSET_Y) / mRenderer.mFontLineSpacing) + mTopRow;
 
-        mSelX1 = mSelX2 = cx;
-        mSelY1 = mSelY2 = cy;
+        synchronized (mEmulator) {
+            followScrolledRows(mTermSession.takeScreenSnapshot());
+            int cy = (int) ((ev.getY() + SELECT_TEXT_OFFSET_Y) / mRenderer.mFontLineSpacing) + mTopRow;
 
-        TerminalBuffer screen = mEmulator.getScreen();
-        if (!" ".equals(screen.getSelectedText(mSelX1, mSelY1, mSelX1, mSelY1))) {
-            // Selecting something other than whitespace. Expand to word.
-            while (mSelX1 > 0 && !"".equals(screen.getSelectedText(mSelX1 - 1, mSelY1, mSelX1 - 1, mSelY1))) {
-                mSelX1--;
-            }
-            while (mSelX2 < mEmulator.mColumns - 1 && !"".equals(screen.getSelectedText(mSelX2 + 1, mSelY1, mSelX2 + 1, mSelY1))) {
-                mSelX2++;
+            mSelX1 = mSelX2 = cx;
+            mSelY1 = mSelY2 = cy;
+
+            TerminalBuffer screen = mEmulator.getScreen();
+            if (!" ".equals(screen.getSelectedText(mSelX1, mSelY1, mSelX1, mSelY1))) {
+                // Selecting something other than whitespace. Expand to word.
+                while (mSelX1 > 0 && !"".equals(screen.getSelectedText(mSelX1 - 1, mSelY1, mSelX1 - 1, mSelY1))) {
+                    mSelX1--;
+                }
+                while (mSelX2 < mEmulator.mColumns - 1 && !"".equals(screen.getSelectedText(mSelX2 + 1, mSelY1, mSelX2 + 1, mSelY1))) {
+                    mSelX2++;
+                }
             }
         }
         startTextSelectionMode();
     }
 
+    /**
+     * Show the next match of a query below the one shown, or below the top of the view if none is shown, scrolling the
+     * view to it if necessary.
+     *
+     * @return false if there is no such match, in which case the view is left as is.
+     */
+    public boolean findNext(SearchQuery query) {
+        return find(query, true);
+    }
+
+    /** Show the previous match of a query above the one shown, or above the bottom of the view, see {@link #findNext}. */
+    public boolean findPrevious(SearchQuery query) {
+        return find(query, false);
+    }
+
+    private boolean find(SearchQuery query, boolean forward) {
+        if (mEmulator == null) return false;
+        synchronized (mEmulator) {
+            followScrolledRows(mTermSession.takeScreenSnapshot());
+            TerminalBuffer screen = mEmulator.getScreen();
+            int row, column;
+            if (mSearchMatch != null) {
+                row = mSearchMatch[0];
+                column = mSearchMatch[1];
+            } else {
+                row = forward ? mTopRow : mTopRow + mEmulator.mRows;
+                column = -1;
+            }
+            int[] match = new int[4];
+            if (!screen.find(query, row, column, forward, match)) return false;
+
+            mSearchMatch = match;
+            if (match[0] < mTopRow || match[2] >= mTopRow + mEmulator.mRows) {
+                // Center the match vertically if not already visible.
+                mTopRow = Math.min(0, Math.max(-screen.getActiveTranscriptRows(), match[0] - mEmulator.mRows / 2));
+                awakenScrollBars();
+            }
+        }
+        invalidate();
+        return true;
+    }
+
+    /** Stop showing the search match found by {@link #findNext} or {@link #findPrevious}. */
+    public void clearSearchMatch() {
+        mSearchMatch = null;
+        invalidate();
+    }
+
     public TerminalSession getCurrentSession() {
         return mTermSession;
     }
 
     private CharSequence getText() {
-        return mEmulator.getScreen().getSelectedText(0, mTopRow, mEmulator.mColumns, mTopRow + mEmulator.mRows);
+        synchronized (mEmulator) {
+            followScrolledRows(mTermSession.takeScreenSnapshot());
+            return mEmulator.getScreen().getSelectedText(0, mTopRow, mEmulator.mColumns, mTopRow + mEmulator.mRows);
+        }
+    }
+
+    /**
+     * Switch to a newer snapshot of the screen, keeping the rows shown, the selection and the search match on the same
+     * text as far as it has scrolled up into the transcript since {@link #mSnapshot}. When taken while holding the lock
+     * of the emulator, the rows then also refer to its buffer until the lock is released.
+     */
+    private void followScrolledRows(ScreenSnapshot snapshot) {
+        final int rowShift = (int) (snapshot.mScrolledRows - mSnapshot.mScrolledRows);
+        mSnapshot = snapshot;
+        if (rowShift == 0) return;
+
+        final int rowsInHistory = snapshot.mActiveTranscriptRows;
+        if (mTopRow != 0 || mIsSelectingText) mTopRow = Math.max(-rowsInHistory, mTopRow - rowShift);
+        if (mIsSelectingText) {
+            mSelY1 -= rowShift;
+            mSelY2 -= rowShift;
+        }
+        if (mSearchMatch != null) {
+            mSearchMatch[0] -= rowShift;
+            mSearchMatch[2] -= rowShift;
+            if (mSearchMatch[0] < -rowsInHistory) mSearchMatch = null;
+        }
     }
 
     @Override
@@ -1152,7 +1265,11 @@ public final class TerminalView extends View {
                     final float newPosX = rawX - mTouchToWindowOffsetX + mHotspotX;
                     final float newPosY = rawY - mTouchToWindowOffsetY + mHotspotY + mTouchOffsetY;
 
-                    mController.updatePosition(this, Math.round(newPosX), Math.round(newPosY));
+                    // Moving a handle reads the buffer to keep it off the middle of wide chars:
+                    synchronized (mEmulator) {
+                        followScrolledRows(mTermSession.takeScreenSnapshot());
+                        mController.updatePosition(this, Math.round(newPosX), Math.round(newPosY));
+                    }
 
 
                     break;
@@ -1223,7 +1340,11 @@ public final class TerminalView extends View {
                     }
                     switch (item.getItemId()) {
                         case 1:
-                            String selectedText = mEmulator.getSelectedText(mSelX1, mSelY1, mSelX2, mSelY2).trim();
+                            String selectedText;
+                            synchronized (mEmulator) {
+                                followScrolledRows(mTermSession.takeScreenSnapshot());
+                                selectedText = mEmulator.getSelectedText(mSelX1, mSelY1, mSelX2, mSelY2).trim();
+                            }
                             mTermSession.clipboardText(selectedText);
                             break;
                         case 2:
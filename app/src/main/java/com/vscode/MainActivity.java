@@ -61,12 +61,22 @@ public class MainActivity extends Activity implements ServiceConnection {
             new AudioAttributes.Builder().setContentType(AudioAttributes.CONTENT_TYPE_SONIFICATION)
                     .setUsage(AudioAttributes.USAGE_ASSISTANCE_SONIFICATION).build()).build();
     int mBellSoundId;
+    /** The number of rows kept of each terminal session, from the transcript-rows property in terminal.properties. */
+    int mTranscriptRows = TerminalSession.DEFAULT_TRANSCRIPT_ROWS;
+    /** The milliseconds of each frame spent emulating output, from the emulation-frame-budget property. */
+    int mEmulationFrameBudget = TerminalSession.DEFAULT_EMULATION_FRAME_BUDGET_MILLIS;
+    /**
+     * The maximum size in MiB of the file keeping the history which no longer fits in the transcript of a new session,
+     * from the scrollback-file-max-mb property, or 0 to not keep one.
+     */
+    int mScrollbackFileMaxMegabytes;
 
     private final BroadcastReceiver mBroadcastReceiever = new BroadcastReceiver() {
         @Override
         public void onReceive(Context context, Intent intent) {
             if (mIsVisible) {
                 checkForFontAndColors();
+                checkForTerminalProperties();
                 if (mExtraKeysView != null) {
                     mExtraKeysView.reload();
                 }
@@ -132,6 +142,7 @@ public class MainActivity extends Activity implements ServiceConnection {
             throw new RuntimeException("bindService() failed");
 
         checkForFontAndColors();
+        checkForTerminalProperties();
 
         mBellSoundId = mBellSoundPool.load(this, R.raw.bell, 1);
 
@@ -266,6 +277,10 @@ public class MainActivity extends Activity implements ServiceConnection {
             TerminalSession currentSession = getCurrentTermSession();
             String cwd = (currentSession == null) ? null : currentSession.getCwd();
             TerminalSession newSession = mTermService.createTermSession(false, busybox, cwd, null, proot_fs, prootArgs);
+            newSession.setTranscriptRows(mTranscriptRows);
+            newSession.setEmulationFrameBudget(mEmulationFrameBudget);
+            if (mScrollbackFileMaxMegabytes > 0)
+                newSession.setScrollbackDirectory(getCacheDir(), mScrollbackFileMaxMegabytes * 1024L * 1024L);
             switchToSession(newSession);
             mTermService.updateNotification();
         }
@@ -296,7 +311,7 @@ public class MainActivity extends Activity implements ServiceConnection {
             TerminalColors.COLOR_SCHEME.updateWith(props);
             TerminalSession session = getCurrentTermSession();
             if (session != null && session.getEmulator() != null) {
-                session.getEmulator().mColors.reset();
+                session.resetColors();
             }
             updateBackgroundColor();
 
@@ -304,6 +319,39 @@ public class MainActivity extends Activity implements ServiceConnection {
             mTerminalView.setTypeface(newTypeface);
         } catch (Exception e) {}
     }
+    private void checkForTerminalProperties() {
+        int transcriptRows = TerminalSession.DEFAULT_TRANSCRIPT_ROWS;
+        int emulationFrameBudget = TerminalSession.DEFAULT_EMULATION_FRAME_BUDGET_MILLIS;
+        int scrollbackFileMaxMegabytes = 0;
+        try {
+            File propertiesFile = new File(getFilesDir().getAbsolutePath() + "/root/.configs/terminal.properties");
+            final Properties props = new Properties();
+            if (propertiesFile.isFile()) {
+                try (InputStream in = new FileInputStream(propertiesFile)) {
+                    props.load(in);
+                }
+            }
+            String value = props.getProperty("transcript-rows");
+            if (value != null) transcriptRows = Math.max(1, Integer.parseInt(value.trim()));
+            value = props.getProperty("emulation-frame-budget");
+            if (value != null) emulationFrameBudget = Math.max(0, Integer.parseInt(value.trim()));
+            value = props.getProperty("scrollback-file-max-mb");
+            if (value != null) scrollbackFileMaxMegabytes = Math.max(0, Integer.parseInt(value.trim()));
+        } catch (Exception e) {}
+
+        mTranscriptRows = transcriptRows;
+        mEmulationFrameBudget = emulationFrameBudget;
+        // Only used for new sessions, as the file of a running one is not replaced:
+        mScrollbackFileMaxMegabytes = scrollbackFileMaxMegabytes;
+        updateTerminalProperties();
+    }
+    private void updateTerminalProperties() {
+        if (mTermService == null) return;
+        for (TerminalSession session : mTermService.getSessions()) {
+            session.setTranscriptRows(mTranscriptRows);
+            session.setEmulationFrameBudget(mEmulationFrameBudget);
+        }
+    }
     private void updateBackgroundColor() {
         TerminalSession session = getCurrentTermSession();
         if (session != null && session.getEmulator() != null) {
@@ -319,6 +367,7 @@ public class MainActivity extends Activity implements ServiceConnection {
     @Override
     public void onServiceConnected(ComponentName componentName, IBinder service) {
         mTermService = ((TerminalService.LocalBinder) service).service;
+        updateTerminalProperties();
 
         mTermService.mSessionChangeCallback = new TerminalSession.SessionChangedCallback() {
             @Override
@@ -0,0 +1,51 @@
+package android.os;
+
+/** Fake of the Android class for unit tests, see {@link Looper}. */
+public class Handler {
+
+    private final Looper mLooper;
+
+    public Handler() {
+        this(Looper.myLooper());
+    }
+
+    public Handler(Looper looper) {
+        mLooper = looper;
+    }
+
+    public void handleMessage(Message msg) {
+    }
+
+    public final Looper getLooper() {
+        return mLooper;
+    }
+
+    public final Message obtainMessage(int what) {
+        return obtainMessage(what, null);
+    }
+
+    public final Message obtainMessage(int what, Object obj) {
+        final Message message = new Message();
+        message.what = what;
+        message.obj = obj;
+        return message;
+    }
+
+    public final boolean sendEmptyMessage(int what) {
+        return sendMessage(obtainMessage(what));
+    }
+
+    public final boolean sendMessage(final Message msg) {
+        return post(new Runnable() {
+            @Override
+            public void run() {
+                handleMessage(msg);
+            }
+        });
+    }
+
+    public final boolean post(Runnable r) {
+        mLooper.mQueue.add(r);
+        return true;
+    }
+}
@@ -0,0 +1,21 @@
+package android.os;
+
+/** Fake of the Android class for unit tests, whose messages are run by the test, see {@link Looper}. */
+public class HandlerThread extends Thread {
+
+    public HandlerThread(String name) {
+        super(name);
+    }
+
+    @Override
+    public synchronized void start() {
+    }
+
+    public Looper getLooper() {
+        return Looper.myLooper();
+    }
+
+    public boolean quitSafely() {
+        return true;
+    }
+}
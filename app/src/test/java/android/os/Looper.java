@@ -0,0 +1,41 @@
+package android.os;
+
+import java.util.ArrayDeque;
+
+/**
+ * Fake of the Android class for unit tests. There is a single looper, shared by all threads and handlers, whose
+ * messages are run by the test on its own thread through {@link #runQueuedMessages()}.
+ */
+public final class Looper {
+
+    private static final Looper LOOPER = new Looper();
+
+    final ArrayDeque<Runnable> mQueue = new ArrayDeque<>();
+
+    private Looper() {
+    }
+
+    public static Looper getMainLooper() {
+        return LOOPER;
+    }
+
+    public static Looper myLooper() {
+        return LOOPER;
+    }
+
+    /** Run the queued messages, including those they send, until none is left. Returns the number run. */
+    public static int runQueuedMessages() {
+        int messages = 0;
+        Runnable message;
+        while ((message = LOOPER.mQueue.poll()) != null) {
+            message.run();
+            messages++;
+        }
+        return messages;
+    }
+
+    /** Discard the queued messages. */
+    public static void reset() {
+        LOOPER.mQueue.clear();
+    }
+}
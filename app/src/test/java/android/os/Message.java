@@ -0,0 +1,7 @@
+package android.os;
+
+/** Fake of the Android class for unit tests, see {@link Looper}. */
+public final class Message {
+    public int what;
+    public Object obj;
+}
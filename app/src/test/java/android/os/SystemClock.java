@@ -0,0 +1,31 @@
+package android.os;
+
+/**
+ * Fake of the Android class for unit tests: a clock which only moves when set or read, each reading taking
+ * {@link #setMillisPerReading(long)}, to stand for the work done between readings.
+ */
+public final class SystemClock {
+
+    private static long sUptimeMillis;
+    private static long sMillisPerReading;
+
+    private SystemClock() {
+    }
+
+    public static long uptimeMillis() {
+        return sUptimeMillis += sMillisPerReading;
+    }
+
+    /** The time, without taking a reading. */
+    public static long peekUptimeMillis() {
+        return sUptimeMillis;
+    }
+
+    public static void setUptimeMillis(long uptimeMillis) {
+        sUptimeMillis = uptimeMillis;
+    }
+
+    public static void setMillisPerReading(long millisPerReading) {
+        sMillisPerReading = millisPerReading;
+    }
+}
@@ -0,0 +1,48 @@
+package android.view;
+
+import java.util.ArrayList;
+
+/** Fake of the Android class for unit tests: the test runs the callbacks of a frame with {@link #doFrame(long)}. */
+public final class Choreographer {
+
+    public interface FrameCallback {
+        void doFrame(long frameTimeNanos);
+    }
+
+    private static final Choreographer INSTANCE = new Choreographer();
+
+    private final ArrayList<FrameCallback> mCallbacks = new ArrayList<>();
+
+    private Choreographer() {
+    }
+
+    public static Choreographer getInstance() {
+        return INSTANCE;
+    }
+
+    public void postFrameCallback(FrameCallback callback) {
+        mCallbacks.add(callback);
+    }
+
+    public void removeFrameCallback(FrameCallback callback) {
+        mCallbacks.remove(callback);
+    }
+
+    /** Run the callbacks posted before this frame, returning whether there were any. */
+    public static boolean doFrame(long frameTimeNanos) {
+        if (INSTANCE.mCallbacks.isEmpty()) return false;
+        final ArrayList<FrameCallback> callbacks = new ArrayList<>(INSTANCE.mCallbacks);
+        INSTANCE.mCallbacks.clear();
+        for (FrameCallback callback : callbacks) callback.doFrame(frameTimeNanos);
+        return true;
+    }
+
+    /** Whether a callback is posted for the next frame. */
+    public static boolean hasCallbacks() {
+        return !INSTANCE.mCallbacks.isEmpty();
+    }
+
+    public static void reset() {
+        INSTANCE.mCallbacks.clear();
+    }
+}
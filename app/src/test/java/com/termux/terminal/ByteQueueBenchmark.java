@@ -0,0 +1,156 @@
+package com.termux.terminal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Control;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ByteQueue} with the {@link MonitorByteQueue} it replaced, with a producer and a consumer thread as
+ * between the thread reading from the process and the emulation thread. Run with
+ * {@code ./gradlew :app:jmh -Pjmh.includes=ByteQueueBenchmark}.
+ * <p>
+ * The transfer group measures throughput, in writes of the chunk size per microsecond, and the pingPong group the
+ * latency of a round trip of a chunk through two queues. A side which sees the end of an iteration closes the queues,
+ * so that the other side does not stay blocked in the queue.
+ */
+@State(Scope.Group)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ByteQueueBenchmark {
+
+    /** The size of the queue from the process to the terminal in {@link TerminalSession}. */
+    private static final int QUEUE_SIZE = 64 * 1024;
+
+    @Param({"lockFree", "monitor"})
+    public String queue;
+
+    /** The bytes written at a time: a keypress, a line, or a full read from the process. */
+    @Param({"1", "64", "4096"})
+    public int chunk;
+
+    private Queue mQueue, mReplyQueue;
+    private byte[] mChunk;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        mQueue = newQueue();
+        mReplyQueue = newQueue();
+        mChunk = new byte[chunk];
+    }
+
+    @Benchmark
+    @Group("transfer")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean write(Control control) {
+        if (control.stopMeasurement) return close();
+        return mQueue.write(mChunk, 0, mChunk.length);
+    }
+
+    @Benchmark
+    @Group("transfer")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int read(Consumer consumer, Control control) {
+        if (control.stopMeasurement) return close() ? 0 : -1;
+        return mQueue.read(consumer.mBuffer, true);
+    }
+
+    @Benchmark
+    @Group("pingPong")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int ping(Consumer consumer, Control control) {
+        if (control.stopMeasurement) return close() ? 0 : -1;
+        mQueue.write(mChunk, 0, mChunk.length);
+        return mReplyQueue.read(consumer.mBuffer, true);
+    }
+
+    @Benchmark
+    @Group("pingPong")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean pong(Consumer consumer, Control control) {
+        if (control.stopMeasurement) return close();
+        final int read = mQueue.read(consumer.mBuffer, true);
+        return read > 0 && mReplyQueue.write(consumer.mBuffer, 0, read);
+    }
+
+    private boolean close() {
+        mQueue.close();
+        mReplyQueue.close();
+        return false;
+    }
+
+    private Queue newQueue() {
+        if (queue.equals("monitor")) {
+            final MonitorByteQueue monitorQueue = new MonitorByteQueue(QUEUE_SIZE);
+            return new Queue() {
+                @Override
+                public int read(byte[] buffer, boolean block) {
+                    return monitorQueue.read(buffer, block);
+                }
+
+                @Override
+                public boolean write(byte[] buffer, int offset, int length) {
+                    return monitorQueue.write(buffer, offset, length);
+                }
+
+                @Override
+                public void close() {
+                    monitorQueue.close();
+                }
+            };
+        }
+        final ByteQueue lockFreeQueue = new ByteQueue(QUEUE_SIZE);
+        return new Queue() {
+            @Override
+            public int read(byte[] buffer, boolean block) {
+                return lockFreeQueue.read(buffer, block);
+            }
+
+            @Override
+            public boolean write(byte[] buffer, int offset, int length) {
+                return lockFreeQueue.write(buffer, offset, length);
+            }
+
+            @Override
+            public void close() {
+                lockFreeQueue.close();
+            }
+        };
+    }
+
+    /** The buffer of the consuming thread, which reads up to 4096 bytes at a time as {@link TerminalSession} does. */
+    @State(Scope.Thread)
+    public static class Consumer {
+        final byte[] mBuffer = new byte[4096];
+    }
+
+    private interface Queue {
+        int read(byte[] buffer, boolean block);
+
+        boolean write(byte[] buffer, int offset, int length);
+
+        void close();
+    }
+}
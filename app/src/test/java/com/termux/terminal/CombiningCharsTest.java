@@ -0,0 +1,95 @@
+package com.termux.terminal;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** Combining chars beyond {@link TerminalEmulator#setMaxCombiningCharsPerCell(int)} are dropped and counted. */
+public class CombiningCharsTest {
+
+    private static final int COLUMNS = 80;
+    /** The number of times the cap of combining chars to write to a cell. */
+    private static final int TIMES_CAP = 100;
+    /** A combining acute accent, and a combining musical symbol outside the BMP which takes two chars. */
+    private static final String[] MARKS = {"\u0301", new String(Character.toChars(0x1D167))};
+    /** A narrow base, a wide one and a wide one outside the BMP. */
+    private static final String[] BASES = {"a", "中", new String(Character.toChars(0x1F600))};
+
+    @Test
+    public void testOneCell() {
+        final int cap = TerminalEmulator.DEFAULT_MAX_COMBINING_CHARS_PER_CELL;
+        for (String base : BASES) {
+            for (String mark : MARKS) {
+                final TerminalEmulator emulator = newEmulator();
+                append(emulator, base + repeat(mark, TIMES_CAP * cap));
+                final String message = base + " " + Integer.toHexString(mark.codePointAt(0));
+                assertEquals(message, (TIMES_CAP - 1) * cap, emulator.getDroppedCombiningCharCount());
+                assertEquals(message, cap, emulator.getScreen().getCombiningCodePointCount(0, 0));
+                final int blankColumns = COLUMNS - WcWidth.width(base.codePointAt(0));
+                assertEquals(message, blankColumns + base.length() + cap * mark.length(), row(emulator, 0).getSpaceUsed());
+            }
+        }
+    }
+
+    /** Every cell of a row, including the last column where the cursor stays until the next char wraps. */
+    @Test
+    public void testEveryCell() {
+        final int cap = TerminalEmulator.DEFAULT_MAX_COMBINING_CHARS_PER_CELL;
+        final TerminalEmulator emulator = newEmulator();
+        final String marks = repeat(MARKS[0], TIMES_CAP * cap);
+        for (int column = 0; column < COLUMNS; column++) append(emulator, "a" + marks);
+        assertEquals(COLUMNS * (TIMES_CAP - 1) * cap, emulator.getDroppedCombiningCharCount());
+        assertEquals(COLUMNS * (1 + cap), row(emulator, 0).getSpaceUsed());
+        for (int column = 0; column < COLUMNS; column++)
+            assertEquals(cap, emulator.getScreen().getCombiningCodePointCount(column, 0));
+        assertEquals(0, emulator.getCursorRow());
+    }
+
+    @Test
+    public void testSetMaxCombiningCharsPerCell() {
+        final TerminalEmulator emulator = newEmulator();
+        emulator.setMaxCombiningCharsPerCell(2);
+        append(emulator, "a" + repeat(MARKS[0], 5));
+        assertEquals(3, emulator.getDroppedCombiningCharCount());
+        assertEquals(COLUMNS + 2, row(emulator, 0).getSpaceUsed());
+
+        emulator.setMaxCombiningCharsPerCell(0);
+        append(emulator, "b" + repeat(MARKS[1], 5));
+        assertEquals(8, emulator.getDroppedCombiningCharCount());
+        assertEquals(0, emulator.getScreen().getCombiningCodePointCount(1, 0));
+        assertEquals(COLUMNS + 2, row(emulator, 0).getSpaceUsed());
+    }
+
+    /** Rows grow by a char for each combining char appended, so a million of them must not take long. */
+    @Test(timeout = 10000)
+    public void testUnboundedInput() {
+        final TerminalEmulator emulator = newEmulator();
+        final byte[] marks = repeat(MARKS[0], 1 << 20).getBytes(StandardCharsets.UTF_8);
+        append(emulator, "a");
+        emulator.append(marks, marks.length);
+        assertTrue(row(emulator, 0).getSpaceUsed() <= COLUMNS + TerminalEmulator.DEFAULT_MAX_COMBINING_CHARS_PER_CELL);
+    }
+
+    private static TerminalEmulator newEmulator() {
+        return new TerminalEmulator(new EscapeSequenceCorpusTest.NullOutput(), COLUMNS, 24, 100);
+    }
+
+    private static void append(TerminalEmulator emulator, String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        emulator.append(bytes, bytes.length);
+    }
+
+    private static TerminalRow row(TerminalEmulator emulator, int row) {
+        final TerminalBuffer screen = emulator.getScreen();
+        return screen.getLineForReading(screen.externalToInternalRow(row));
+    }
+
+    private static String repeat(String text, int times) {
+        final StringBuilder builder = new StringBuilder(text.length() * times);
+        for (int i = 0; i < times; i++) builder.append(text);
+        return builder.toString();
+    }
+}
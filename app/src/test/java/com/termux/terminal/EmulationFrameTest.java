@@ -0,0 +1,188 @@
+package com.termux.terminal;
+
+import android.os.Looper;
+import android.os.SystemClock;
+import android.view.Choreographer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Emulates output in display frames of 16 ms, with the fake {@link Looper}, {@link Choreographer} and
+ * {@link SystemClock} of the unit tests. Each reading of the clock takes a millisecond, which is about the time to
+ * emulate one read of colored output, so that the frame budget is counted in reads.
+ */
+public class EmulationFrameTest {
+
+    private static final int COLUMNS = 80, ROWS = 24;
+    private static final long FRAME_MILLIS = 16;
+    /** The most frames in a row without a screen update while a flood of output is emulated. */
+    private static final int MAX_SKIPPED_FRAMES = 15;
+
+    /** Output of a build, with a colored word on each line. */
+    private static final byte[] OUTPUT;
+
+    static {
+        final StringBuilder output = new StringBuilder();
+        for (int i = 0; output.length() < 2 << 20; i++)
+            output.append('[').append(i).append("/99999] \033[3").append(i % 8).append("mCC\033[0m src/m")
+                .append(i % 97).append("/f").append(i).append(".o\r\n");
+        OUTPUT = output.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private TerminalSession mSession;
+    private TerminalEmulator mDirectEmulator;
+    private int mScreenUpdates;
+    /** The number of bytes of {@link #OUTPUT} written to the session. */
+    private int mOutputWritten;
+
+    /** What is measured over the frames of a run. */
+    private int mFramesWithOutput, mMostUpdatesInFrame, mLongestFrameMillis, mMostFramesWithoutUpdate, mSkippedFrames;
+
+    @Before
+    public void setUp() {
+        Looper.reset();
+        Choreographer.reset();
+        SystemClock.setUptimeMillis(0);
+        SystemClock.setMillisPerReading(1);
+        final String[] none = new String[0];
+        mSession = new TerminalSession("sh", "/", none, none, new TerminalSession.SessionChangedCallback() {
+            @Override
+            public void onTextChanged(TerminalSession changedSession) {
+                mScreenUpdates++;
+            }
+
+            @Override
+            public void onTitleChanged(TerminalSession changedSession) {
+            }
+
+            @Override
+            public void onSessionFinished(TerminalSession finishedSession) {
+            }
+
+            @Override
+            public void onClipboardText(TerminalSession session, String text) {
+            }
+
+            @Override
+            public void onBell(TerminalSession session) {
+            }
+
+            @Override
+            public void onColorsChanged(TerminalSession session) {
+            }
+        });
+        mSession.createEmulator(COLUMNS, ROWS);
+        mSession.startEmulationThread("TermSessionEmulator");
+        mDirectEmulator = new TerminalEmulator(new EscapeSequenceCorpusTest.NullOutput(), COLUMNS, ROWS,
+            TerminalSession.DEFAULT_TRANSCRIPT_ROWS);
+    }
+
+    @Test
+    public void testTrickle() {
+        runFrames(TerminalSession.DEFAULT_EMULATION_FRAME_BUDGET_MILLIS, 300, 200);
+        assertEquals(1, mMostUpdatesInFrame);
+        // Less than a screenful is never held back:
+        assertEquals(0, mSkippedFrames);
+        assertEquals(mFramesWithOutput, mScreenUpdates);
+        assertScreen();
+    }
+
+    @Test
+    public void testFlood() {
+        for (int budget : new int[]{4, 8, 12}) {
+            setUp();
+            runFrames(budget, 200, 256 << 10);
+            assertEquals(1, mMostUpdatesInFrame);
+            assertTrue(budget + ": " + mLongestFrameMillis + " ms", mLongestFrameMillis <= budget + 2);
+            // More than a screenful keeps being queued, so most frames only emulate it:
+            assertTrue(budget + ": " + mSkippedFrames + " of " + mFramesWithOutput,
+                mSkippedFrames > mFramesWithOutput / 2);
+            assertTrue(budget + ": " + mMostFramesWithoutUpdate, mMostFramesWithoutUpdate <= MAX_SKIPPED_FRAMES);
+            assertScreen();
+        }
+    }
+
+    /** Output which fits in a frame, arriving every other frame, is shown in the frame it arrives. */
+    @Test
+    public void testBursts() {
+        runFrames(TerminalSession.DEFAULT_EMULATION_FRAME_BUDGET_MILLIS, 200, -2048);
+        assertEquals(1, mMostUpdatesInFrame);
+        assertEquals(0, mSkippedFrames);
+        assertEquals(mFramesWithOutput, mScreenUpdates);
+        assertScreen();
+    }
+
+    /**
+     * Run display frames in which the process writes the specified number of bytes, or every other frame if negative,
+     * and then frames until all the output has been emulated.
+     */
+    private void runFrames(int budget, int outputFrames, int bytesPerFrame) {
+        mSession.setEmulationFrameBudget(budget);
+        int framesWithoutUpdate = 0;
+        for (int frame = 0; frame < outputFrames || hasWork(); frame++) {
+            assertTrue("the output is not emulated", frame < outputFrames + 10000);
+            final long frameTime = frame * FRAME_MILLIS;
+            // A frame which the previous one ran into is skipped by the display:
+            if (SystemClock.peekUptimeMillis() > frameTime) continue;
+            SystemClock.setUptimeMillis(frameTime);
+
+            if (frame < outputFrames && (bytesPerFrame > 0 || frame % 2 == 0)) writeOutput(Math.abs(bytesPerFrame));
+            Looper.runQueuedMessages();
+
+            final int queued = mSession.mProcessToTerminalIOQueue.available();
+            final int updatesBefore = mScreenUpdates;
+            final long frameStart = SystemClock.peekUptimeMillis();
+            Choreographer.doFrame(frameTime * 1000000);
+            mLongestFrameMillis = (int) Math.max(mLongestFrameMillis, SystemClock.peekUptimeMillis() - frameStart);
+            final int left = mSession.mProcessToTerminalIOQueue.available();
+            // The screen update posted by the frame:
+            Looper.runQueuedMessages();
+
+            final int updates = mScreenUpdates - updatesBefore;
+            mMostUpdatesInFrame = Math.max(mMostUpdatesInFrame, updates);
+            if (queued > 0) mFramesWithOutput++;
+            if (updates == 0 && queued > 0) {
+                mSkippedFrames++;
+                framesWithoutUpdate++;
+                mMostFramesWithoutUpdate = Math.max(mMostFramesWithoutUpdate, framesWithoutUpdate);
+                assertTrue("less than a screenful held back in frame " + frame, left > COLUMNS * ROWS);
+            } else {
+                framesWithoutUpdate = 0;
+            }
+        }
+    }
+
+    /** Write output to the session as the thread reading from the process would, as much as fits in the queue. */
+    private void writeOutput(int bytes) {
+        while (bytes > 0) {
+            final int space = 64 * 1024 - mSession.mProcessToTerminalIOQueue.available();
+            final int length = Math.min(Math.min(Math.min(bytes, space), 4096), OUTPUT.length - mOutputWritten);
+            if (length <= 0) return;
+            mSession.mProcessToTerminalIOQueue.write(OUTPUT, mOutputWritten, length);
+            mDirectEmulator.append(Arrays.copyOfRange(OUTPUT, mOutputWritten, mOutputWritten + length), length);
+            mOutputWritten += length;
+            bytes -= length;
+            mSession.notifyOutputQueued();
+        }
+    }
+
+    private boolean hasWork() {
+        return mSession.mProcessToTerminalIOQueue.available() > 0 || Choreographer.hasCallbacks();
+    }
+
+    /** Check that the screen shows all the output, as emulating it directly does. */
+    private void assertScreen() {
+        assertTrue(mOutputWritten > 0);
+        final TerminalEmulator emulator = mSession.getEmulator();
+        assertEquals(mDirectEmulator.getScreen().getTranscriptText(), emulator.getScreen().getTranscriptText());
+        assertEquals(mDirectEmulator.getCursorRow(), emulator.getCursorRow());
+        assertEquals(mDirectEmulator.getCursorCol(), emulator.getCursorCol());
+    }
+}
@@ -0,0 +1,115 @@
+package com.termux.terminal;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Feeds output recorded from vim, top, less and a progress bar script through the emulator in chunks of random sizes,
+ * and compares the screen at each checkpoint with what the switch based parser produced before it was replaced by the
+ * action table of {@link TerminalEmulator}. The expected screens were recorded with that parser, from the same input.
+ */
+public class EscapeSequenceCorpusTest {
+
+    /** The recordings in the corpus directory, each as name.bin with the expected screens in name.txt. */
+    private static final String[] RECORDINGS = {"vim", "top", "less", "progress"};
+    /** The number of bytes of input between two dumps of the screen. */
+    static final int CHECKPOINT_BYTES = 4096;
+    static final int COLUMNS = 80, ROWS = 24, TRANSCRIPT_ROWS = 1000;
+
+    @Test
+    public void testRecordedCorpus() throws IOException {
+        for (String name : RECORDINGS) {
+            final byte[] input = readResource("corpus/" + name + ".bin");
+            final String expected = new String(readResource("corpus/" + name + ".txt"), StandardCharsets.UTF_8);
+            for (int seed = 0; seed < 20; seed++)
+                assertEquals(name + ", seed " + seed, expected, emulate(input, new Random(seed)));
+        }
+    }
+
+    /** Emulate the input in random chunks, which never cross a checkpoint, and dump the screen at each checkpoint. */
+    static String emulate(byte[] input, Random random) {
+        final TerminalEmulator emulator = new TerminalEmulator(new NullOutput(), COLUMNS, ROWS, TRANSCRIPT_ROWS);
+        final StringBuilder dump = new StringBuilder();
+        int position = 0;
+        while (position < input.length) {
+            final int checkpoint = Math.min(input.length, (position / CHECKPOINT_BYTES + 1) * CHECKPOINT_BYTES);
+            while (position < checkpoint) {
+                final int length = Math.min(checkpoint - position, 1 + random.nextInt(random.nextBoolean() ? 8 : 2048));
+                emulator.append(Arrays.copyOfRange(input, position, position + length), length);
+                position += length;
+            }
+            dumpScreen(emulator, position, position == input.length, dump);
+        }
+        return dump.toString();
+    }
+
+    /**
+     * Append the cursor and, for each row, its line wrap flag, its text and the runs of cells with the same style, with
+     * the rows of the transcript after the last checkpoint.
+     */
+    static void dumpScreen(TerminalEmulator emulator, int position, boolean last, StringBuilder dump) {
+        final TerminalBuffer screen = emulator.getScreen();
+        dump.append("@").append(position).append(" cursor ").append(emulator.getCursorRow()).append(',')
+            .append(emulator.getCursorCol()).append('\n');
+        final int firstRow = last ? -screen.getActiveTranscriptRows() : 0;
+        for (int row = firstRow; row < emulator.mRows; row++) {
+            dump.append(screen.getLineWrap(row) ? '+' : '|').append(screen.getSelectedText(0, row, emulator.mColumns, row));
+            dump.append("\n ");
+            long runStyle = screen.getStyleAt(row, 0);
+            int runLength = 0;
+            for (int column = 0; column < emulator.mColumns; column++) {
+                final long style = screen.getStyleAt(row, column);
+                if (style != runStyle) {
+                    dump.append(' ').append(Long.toHexString(runStyle)).append('*').append(runLength);
+                    runStyle = style;
+                    runLength = 0;
+                }
+                runLength++;
+            }
+            dump.append(' ').append(Long.toHexString(runStyle)).append('*').append(runLength).append('\n');
+        }
+    }
+
+    static byte[] readResource(String name) throws IOException {
+        try (InputStream in = EscapeSequenceCorpusTest.class.getResourceAsStream(name)) {
+            assertNotNull(name, in);
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) bytes.write(buffer, 0, read);
+            return bytes.toByteArray();
+        }
+    }
+
+    /** Discards what the emulator writes back and reports. */
+    static final class NullOutput extends TerminalOutput {
+        @Override
+        public void write(byte[] data, int offset, int count) {
+        }
+
+        @Override
+        public void titleChanged(String oldTitle, String newTitle) {
+        }
+
+        @Override
+        public void clipboardText(String text) {
+        }
+
+        @Override
+        public void onBell() {
+        }
+
+        @Override
+        public void onColorsChanged() {
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.termux.terminal;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+public class ResizeTest {
+
+    private static final String[] WORDS = {"a", "ls", "build", "été", "中文", "x́", "\033[1mbold\033[0m", "😀",
+        "----------------------------------------"};
+
+    /**
+     * Resizing the main buffer to more rows than its transcript holds while the columns change used to index past the
+     * rows allocated for the reflowed buffer.
+     */
+    @Test
+    public void testMoreRowsThanTranscript() {
+        for (int seed = 0; seed < 150; seed++) {
+            final Random random = new Random(seed);
+            final TerminalEmulator emulator = new TerminalEmulator(new EscapeSequenceCorpusTest.NullOutput(), 40, 10, 30);
+            appendLines(emulator, random, 5 + random.nextInt(60));
+            for (int resize = 0; resize < 4; resize++) {
+                final int columns = 10 + random.nextInt(60), rows = 33 + random.nextInt(4);
+                emulator.resize(columns, rows);
+                assertBuffer(emulator, "seed " + seed + ", " + columns + "x" + rows);
+                if (random.nextBoolean()) appendLines(emulator, random, 1 + random.nextInt(20));
+            }
+        }
+    }
+
+    private static void appendLines(TerminalEmulator emulator, Random random, int lines) {
+        for (int i = 0; i < lines; i++) {
+            final StringBuilder text = new StringBuilder().append(i).append(':');
+            final int words = random.nextInt(12);
+            for (int j = 0; j < words; j++) text.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+            final byte[] bytes = text.append("\r\n").toString().getBytes(StandardCharsets.UTF_8);
+            emulator.append(bytes, bytes.length);
+        }
+    }
+
+    /** Check that the cursor is on the screen and that every row of the transcript and the screen can be read. */
+    private static void assertBuffer(TerminalEmulator emulator, String message) {
+        assertTrue(message, emulator.getCursorRow() >= 0 && emulator.getCursorRow() < emulator.mRows);
+        assertTrue(message, emulator.getCursorCol() >= 0 && emulator.getCursorCol() < emulator.mColumns);
+        final TerminalBuffer screen = emulator.getScreen();
+        assertTrue(message, screen.getActiveRows() <= screen.mTotalRows);
+        for (int row = -screen.getActiveTranscriptRows(); row < emulator.mRows; row++) {
+            screen.getSelectedText(0, row, emulator.mColumns, row);
+            screen.getStyleAt(row, emulator.mColumns - 1);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.termux.terminal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ScrollbackFileTest {
+
+    private static final int TRANSCRIPT_ROWS = 100;
+
+    @Rule
+    public final TemporaryFolder mDirectory = new TemporaryFolder();
+
+    /** Once full, the file keeps the oldest rows and the transcript the most recent ones. */
+    @Test
+    public void testMaxBytes() throws IOException {
+        final ScrollbackFile file = new ScrollbackFile(mDirectory.getRoot(), 64 * 1024);
+        final TerminalEmulator emulator = new TerminalEmulator(new EscapeSequenceCorpusTest.NullOutput(), 80, 24,
+            TRANSCRIPT_ROWS);
+        emulator.setScrollbackFile(file);
+        final int lines = 20000;
+        for (int i = 0; i < lines; i++) {
+            final byte[] line = ("line " + i + " of some output\r\n").getBytes(StandardCharsets.UTF_8);
+            emulator.append(line, line.length);
+        }
+
+        final int fileRows = file.getRows();
+        assertTrue(fileRows > 1000 && fileRows < lines - TRANSCRIPT_ROWS);
+        final TerminalBuffer screen = emulator.getScreen();
+        assertEquals(fileRows + TRANSCRIPT_ROWS - 24, screen.getActiveTranscriptRows());
+        final int firstRow = -screen.getActiveTranscriptRows();
+        assertEquals("line 0 of some output", screen.getSelectedText(0, firstRow, 80, firstRow).trim());
+        final int lastFileRow = firstRow + fileRows - 1;
+        assertEquals("line " + (fileRows - 1) + " of some output",
+            screen.getSelectedText(0, lastFileRow, 80, lastFileRow).trim());
+        assertEquals("line " + (lines - TRANSCRIPT_ROWS + 1) + " of some output",
+            screen.getSelectedText(0, lastFileRow + 1, 80, lastFileRow + 1).trim());
+        assertEquals("line " + (lines - 1) + " of some output", screen.getSelectedText(0, 22, 80, 22).trim());
+
+        // Clearing the history makes room again:
+        final byte[] clear = "\033[3J".getBytes(StandardCharsets.UTF_8);
+        emulator.append(clear, clear.length);
+        assertEquals(0, file.getRows());
+        for (int i = 0; i < TRANSCRIPT_ROWS; i++) emulator.append(new byte[]{'\n'}, 1);
+        assertTrue(file.getRows() > 0);
+        file.close();
+    }
+}
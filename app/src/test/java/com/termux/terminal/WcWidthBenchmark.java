@@ -0,0 +1,86 @@
+package com.termux.terminal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the table lookup of {@link WcWidth#width(int)} with the binary searches in the interval tables which it
+ * replaced. Run with {@code ./gradlew :app:jmh -Pjmh.includes=WcWidthBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WcWidthBenchmark {
+
+    private static final int CODE_POINTS = 4096;
+
+    /** What is written to the terminal: ls output, Chinese text, or text with accents and emoji. */
+    @Param({"ascii", "cjk", "mixed"})
+    public String text;
+
+    private int[] mCodePoints;
+
+    @Setup
+    public void setUp() {
+        final String sample;
+        switch (text) {
+            case "ascii":
+                sample = "drwxr-xr-x  2 u0_a123 u0_a123 4096 Oct 18 21:29 build.gradle\n";
+                break;
+            case "cjk":
+                sample = "终端模拟器把每个字符写入单元格，宽字符占两列。\n";
+                break;
+            default:
+                sample = "Café déjà vu 😀 naïve x́ ❤️ résumé\n";
+                break;
+        }
+        final StringBuilder builder = new StringBuilder();
+        while (builder.codePointCount(0, builder.length()) < CODE_POINTS) builder.append(sample);
+        mCodePoints = builder.codePoints().limit(CODE_POINTS).toArray();
+    }
+
+    @Benchmark
+    public int table() {
+        int columns = 0;
+        for (int codePoint : mCodePoints) columns += WcWidth.width(codePoint);
+        return columns;
+    }
+
+    @Benchmark
+    public int binarySearch() {
+        int columns = 0;
+        for (int codePoint : mCodePoints) columns += binarySearchWidth(codePoint);
+        return columns;
+    }
+
+    /** The width as found before the table, with up to two binary searches. */
+    private static int binarySearchWidth(int ucs) {
+        if (ucs == 0 ||
+            ucs == 0x034F ||
+            (0x200B <= ucs && ucs <= 0x200F) ||
+            ucs == 0x2028 ||
+            ucs == 0x2029 ||
+            (0x202A <= ucs && ucs <= 0x202E) ||
+            (0x2060 <= ucs && ucs <= 0x2063)) {
+            return 0;
+        }
+        if (ucs < 32 || (0x07F <= ucs && ucs < 0x0A0)) return 0;
+        if (ucs >= WcWidth.ZERO_WIDTH[0][0] && WcWidthTableGenerator.inTable(WcWidth.ZERO_WIDTH, ucs)) return 0;
+        return (ucs >= WcWidth.WIDE_EASTASIAN[0][0] && WcWidthTableGenerator.inTable(WcWidth.WIDE_EASTASIAN, ucs))
+            ? 2 : 1;
+    }
+}
@@ -0,0 +1,141 @@
+package com.termux.terminal;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Generates the source of {@link WcWidthTable} from the interval tables of {@link WcWidth} and the character types of
+ * the running Java, which should know the same Unicode version as the interval tables (Java 17 for Unicode 13). Run
+ * it from the app directory after changing the interval tables, and check in the result:
+ *
+ * <pre>
+ * java -cp build/intermediates/javac/debugUnitTest/classes:build/intermediates/javac/debug/classes \
+ *     com.termux.terminal.WcWidthTableGenerator src/main/java/com/termux/terminal/WcWidthTable.java
+ * </pre>
+ */
+public final class WcWidthTableGenerator {
+
+    /** The longest string literal to emit, well below the limit of 65535 bytes of a constant in a class file. */
+    private static final int MAX_LITERAL_LENGTH = 32 * 1024;
+    private static final int MAX_LINE_LENGTH = 120;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) throw new IllegalArgumentException("Usage: WcWidthTableGenerator <WcWidthTable.java>");
+        try (Writer out = new OutputStreamWriter(Files.newOutputStream(Paths.get(args[0])), StandardCharsets.UTF_8)) {
+            out.write(generate());
+        }
+    }
+
+    /** The properties of a code point, looked up by binary search in the interval tables as before the table. */
+    static int properties(int ucs) {
+        int properties;
+        if (inTable(WcWidth.ZERO_WIDTH, ucs)) {
+            properties = WcWidth.PROPERTY_COMBINING;
+        } else if (inTable(WcWidth.ZERO_WIDTH_SPECIAL, ucs)) {
+            properties = 0;
+        } else {
+            properties = inTable(WcWidth.WIDE_EASTASIAN, ucs) ? 2 : 1;
+        }
+        final int type = Character.getType(ucs);
+        // A code point is never unassigned again once assigned, but one unassigned here may be assigned by the Unicode
+        // version of the device, so leave it to be checked there.
+        if (type == Character.SURROGATE) properties |= WcWidth.PROPERTY_UNASSIGNED_OR_SURROGATE;
+        else if (type == Character.UNASSIGNED) properties |= WcWidth.PROPERTY_CHECK_TYPE;
+        return properties;
+    }
+
+    static boolean inTable(int[][] table, int ucs) {
+        int bottom = 0, top = table.length - 1;
+        while (top >= bottom) {
+            final int middle = (bottom + top) >>> 1;
+            if (table[middle][1] < ucs) {
+                bottom = middle + 1;
+            } else if (table[middle][0] > ucs) {
+                top = middle - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String generate() {
+        final Map<String, Integer> blockNumbers = new HashMap<>();
+        final StringBuilder blockIndex = new StringBuilder();
+        final StringBuilder blockProperties = new StringBuilder();
+        final char[] block = new char[WcWidth.BLOCK_SIZE];
+        for (int blockStart = 0; blockStart <= Character.MAX_CODE_POINT; blockStart += WcWidth.BLOCK_SIZE) {
+            for (int i = 0; i < block.length; i++) {
+                final int properties = properties(blockStart + i);
+                if (properties >= WcWidthTable.PROPERTY_PRINTABLE_BIT) throw new IllegalStateException("Too many bits");
+                block[i] = (char) (WcWidthTable.PROPERTY_PRINTABLE_BIT | properties);
+            }
+            final String key = new String(block);
+            Integer blockNumber = blockNumbers.get(key);
+            if (blockNumber == null) {
+                blockNumber = blockNumbers.size();
+                blockNumbers.put(key, blockNumber);
+                blockProperties.append(block);
+            }
+            blockIndex.append((char) (WcWidthTable.BLOCK_NUMBER_OFFSET + blockNumber));
+        }
+
+        final StringBuilder source = new StringBuilder();
+        source.append("package com.termux.terminal;\n\n");
+        source.append("/**\n");
+        source.append(" * The two-stage property table of {@link WcWidth}, generated by WcWidthTableGenerator in the")
+            .append(" unit tests from the\n * interval tables of WcWidth and the character types of Java ")
+            .append(System.getProperty("java.specification.version")).append(". Do not edit.\n");
+        source.append(" */\n");
+        source.append("final class WcWidthTable {\n\n");
+        source.append("    /** The bit set in each property to keep the generated string literals printable. */\n");
+        source.append("    static final char PROPERTY_PRINTABLE_BIT = '").append(WcWidthTable.PROPERTY_PRINTABLE_BIT)
+            .append("';\n");
+        source.append("    /** What is added to each block number to keep the generated string literals")
+            .append(" printable. */\n");
+        source.append("    static final char BLOCK_NUMBER_OFFSET = '").append(WcWidthTable.BLOCK_NUMBER_OFFSET)
+            .append("';\n\n");
+        source.append("    /** The number of the block of properties for each block of code points, plus")
+            .append(" BLOCK_NUMBER_OFFSET. */\n");
+        source.append("    static final String[] BLOCK_INDEX = {\n");
+        appendLiterals(blockIndex, source);
+        source.append("    };\n\n");
+        source.append("    /** The ").append(blockNumbers.size())
+            .append(" distinct blocks of properties, concatenated, each property with PROPERTY_PRINTABLE_BIT. */\n");
+        source.append("    static final String[] BLOCK_PROPERTIES = {\n");
+        appendLiterals(blockProperties, source);
+        source.append("    };\n\n");
+        source.append("    private WcWidthTable() {\n");
+        source.append("    }\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /** Append the chars as string literals of at most {@link #MAX_LITERAL_LENGTH} chars, each one split into lines. */
+    private static void appendLiterals(CharSequence chars, StringBuilder source) {
+        for (int start = 0; start < chars.length(); start += MAX_LITERAL_LENGTH) {
+            final int end = Math.min(chars.length(), start + MAX_LITERAL_LENGTH);
+            final StringBuilder line = new StringBuilder("        \"");
+            for (int i = start; i < end; i++) {
+                final char c = chars.charAt(i);
+                if (c == '"' || c == '\\') line.append('\\').append(c);
+                else if (c >= ' ' && c < 0x7f) line.append(c);
+                else line.append(String.format("\\u%04x", (int) c));
+                if (line.length() >= MAX_LINE_LENGTH - 6 || i == end - 1) {
+                    source.append(line).append(i == end - 1 ? "\",\n" : "\"\n");
+                    line.setLength(0);
+                    line.append("            + \"");
+                }
+            }
+        }
+    }
+
+    private WcWidthTableGenerator() {
+    }
+}
@@ -0,0 +1,53 @@
+package com.termux.terminal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** The generated {@link WcWidthTable} must agree with the interval tables of {@link WcWidth} for every code point. */
+public class WcWidthTableTest {
+
+    @Test
+    public void testMatchesIntervalTables() {
+        for (int ucs = 0; ucs <= Character.MAX_CODE_POINT; ucs++) {
+            final int properties = WcWidthTableGenerator.properties(ucs);
+            final String message = "WcWidthTable is out of date at U+" + Integer.toHexString(ucs);
+            assertEquals(message, properties & WcWidth.PROPERTY_WIDTH_MASK, WcWidth.width(ucs));
+            assertEquals(message, (properties & WcWidth.PROPERTY_COMBINING) != 0, WcWidth.isCombining(ucs));
+            // Code points assigned after the table was generated are left to the Unicode version at runtime:
+            final int type = Character.getType(ucs);
+            if (WcWidth.isUnassignedOrSurrogate(ucs))
+                assertTrue(message, type == Character.UNASSIGNED || type == Character.SURROGATE);
+        }
+    }
+
+    @Test
+    public void testProperties() {
+        assertEquals(1, WcWidth.width('a'));
+        assertEquals(0, WcWidth.width(0));
+        assertEquals(0, WcWidth.width(0x9f));
+        assertEquals(1, WcWidth.width(0xe9));
+        assertEquals(2, WcWidth.width('中'));
+        assertEquals(2, WcWidth.width(0x1f600));
+        assertEquals(2, WcWidth.width(0x3fffd));
+        assertEquals(0, WcWidth.width(0x200b));
+        assertEquals(0, WcWidth.width(0x301));
+        assertEquals(0, WcWidth.width(0xe0100));
+
+        assertTrue(WcWidth.isCombining(0x301));
+        assertTrue(WcWidth.isCombining(0x1d167));
+        assertTrue(WcWidth.isCombining(0xe0100));
+        assertFalse(WcWidth.isCombining('a'));
+        assertFalse(WcWidth.isCombining(0));
+        assertFalse(WcWidth.isCombining(0x200b));
+
+        assertTrue(WcWidth.isUnassignedOrSurrogate(0xd800));
+        assertTrue(WcWidth.isUnassignedOrSurrogate(0xdfff));
+        assertTrue(WcWidth.isUnassignedOrSurrogate(0x10ffff));
+        assertTrue(WcWidth.isUnassignedOrSurrogate(Character.MAX_CODE_POINT + 1));
+        assertFalse(WcWidth.isUnassignedOrSurrogate('a'));
+        assertFalse(WcWidth.isUnassignedOrSurrogate(0x1f600));
+    }
+}